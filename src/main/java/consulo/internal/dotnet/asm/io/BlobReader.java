@@ -0,0 +1,124 @@
+package consulo.internal.dotnet.asm.io;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Read-only cursor over a slice of a byte array, usually a single blob inside the #Blob heap.
+ * Nothing is copied: the reader indexes straight into the backing array.
+ * Positions are relative to the start of the slice, and reads past the end of the slice return 0,
+ * the same way {@link ByteBuffer} does for reads past its data.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public final class BlobReader
+{
+	private static final byte[] EMPTY_ARRAY = new byte[0];
+
+	private final byte[] myData;
+	private final int myStart;
+	private final int myEnd;
+	private int myPosition;
+
+	public BlobReader()
+	{
+		this(EMPTY_ARRAY);
+	}
+
+	public BlobReader(@Nonnull byte[] data)
+	{
+		this(data, 0, data.length);
+	}
+
+	public BlobReader(@Nonnull byte[] data, int offset, int length)
+	{
+		if(offset < 0 || length < 0 || offset + length > data.length)
+		{
+			throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array length: " + data.length);
+		}
+		myData = data;
+		myStart = offset;
+		myEnd = offset + length;
+		myPosition = offset;
+	}
+
+	/**
+	 * Returns the length of this slice in bytes
+	 */
+	public int getLength()
+	{
+		return myEnd - myStart;
+	}
+
+	/**
+	 * Returns the byte at the current position and advances the position by 1.
+	 * Returns 0 if the current position is past the end of the slice.
+	 */
+	public byte get()
+	{
+		int position = myPosition++;
+		if(position >= myEnd)
+		{
+			return 0;
+		}
+		return myData[position];
+	}
+
+	/**
+	 * Returns the byte at the current position without advancing it.
+	 * Returns 0 if the current position is past the end of the slice.
+	 */
+	public byte peek()
+	{
+		if(myPosition >= myEnd)
+		{
+			return 0;
+		}
+		return myData[myPosition];
+	}
+
+	/**
+	 * Returns the current position, relative to the start of the slice
+	 */
+	public int getPosition()
+	{
+		return myPosition - myStart;
+	}
+
+	/**
+	 * Sets the current position, relative to the start of the slice
+	 *
+	 * @param pos the new position (if <0, ignored)
+	 */
+	public void setPosition(int pos)
+	{
+		if(pos >= 0)
+		{
+			myPosition = myStart + pos;
+		}
+	}
+
+	/**
+	 * Returns a new reader over the same slice, positioned at its start
+	 */
+	@Nonnull
+	public BlobReader duplicate()
+	{
+		return new BlobReader(myData, myStart, myEnd - myStart);
+	}
+
+	/**
+	 * Returns a copy of the whole slice
+	 */
+	@Nonnull
+	public byte[] toByteArray()
+	{
+		if(myStart == myEnd)
+		{
+			return EMPTY_ARRAY;
+		}
+		byte[] result = new byte[myEnd - myStart];
+		System.arraycopy(myData, myStart, result, 0, result.length);
+		return result;
+	}
+}
@@ -20,36 +20,69 @@
 package consulo.internal.dotnet.asm.io;
 
 import consulo.internal.dotnet.asm.parse.SectionHeader;
+import consulo.internal.dotnet.asm.util.StringUtil;
 
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 /**
- * This is an input stream that buffers the entire PE/COFF file in advance.
- * Since even the main library files (like mscorlib.dll) are no more than ~2mb,
- * this class should never have any problems with using too much memory.
+ * This is an input stream over a memory-mapped PE/COFF file.
+ * The whole file is mapped read-only in advance, and every read is an absolute
+ * little-endian access into the mapping, so seeking is free and no read goes through a syscall.
  * All multi-byte integers are read little-endian.
  *
  * @author Michael Stepp
  */
 public class MSILInputStream implements Closeable
 {
-	private SeekableFileInputStream mySeekableFileInputStream;
+	private java.nio.ByteBuffer myBuffer;
 	private SectionHeader[] headers;
 	private final long size;
+	private int myPosition;
 
 	/**
-	 * Creates a MSILInputStream from the given InputStream and buffers all the available data.
-	 * Note: if input is a network stream, this constructor will only buffer the
-	 * data that is available at the time the constructor is called (i.e. as much as is reported by
-	 * InputStream.available()).
+	 * Creates a MSILInputStream over the given file. The file is memory-mapped,
+	 * the underlying channel is closed right after mapping.
 	 */
 	public MSILInputStream(File file) throws IOException
 	{
-		mySeekableFileInputStream = new SeekableFileInputStream(file);
-		// reads in an entire input stream and buffers it
-		size = mySeekableFileInputStream.length();
+		this(map(file));
+	}
+
+	/**
+	 * Creates a MSILInputStream over the given file image. The array is not copied,
+	 * so it must not be modified while the stream is in use.
+	 */
+	public MSILInputStream(byte[] data)
+	{
+		this(java.nio.ByteBuffer.wrap(data));
+	}
+
+	/**
+	 * Creates a MSILInputStream over the remaining bytes of the given buffer (from its position to its limit).
+	 * The buffer content is not copied and its position, limit and byte order are left untouched.
+	 */
+	public MSILInputStream(java.nio.ByteBuffer buffer)
+	{
+		myBuffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+		size = myBuffer.limit();
+	}
+
+	private static java.nio.ByteBuffer map(File file) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			long length = channel.size();
+			if(length > Integer.MAX_VALUE)
+			{
+				throw new IOException("MSILInputStream: File is too big: " + length);
+			}
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+		}
 	}
 
 	/**
@@ -63,7 +96,7 @@ public class MSILInputStream implements Closeable
 			throw new IOException("MSILInputStream.seek: Seek position outside of file bounds: " + pos);
 		}
 
-		mySeekableFileInputStream.seek(pos);
+		myPosition = (int) pos;
 	}
 
 	/**
@@ -97,13 +130,16 @@ public class MSILInputStream implements Closeable
 	 */
 	public String readASCII() throws IOException
 	{
-		StringBuilder builder = new StringBuilder();
-		int BYTE;
-		while((BYTE = readBYTE()) != 0)
+		int end = myPosition;
+		while(end < size && myBuffer.get(end) != 0)
 		{
-			builder.append((char) BYTE);
+			end++;
 		}
-		return builder.toString();
+
+		byte[] bytes = new byte[end - myPosition];
+		read(bytes);
+		readBYTE(); // terminating 0
+		return StringUtil.decodeUtf8(bytes, 0, bytes.length);
 	}
 
 	/**
@@ -111,7 +147,7 @@ public class MSILInputStream implements Closeable
 	 */
 	public long getCurrent() throws IOException
 	{
-		return (long) mySeekableFileInputStream.position();
+		return myPosition;
 	}
 
 	/**
@@ -123,27 +159,14 @@ public class MSILInputStream implements Closeable
 	 */
 	public boolean match(byte[] bytes) throws IOException
 	{
-		if((mySeekableFileInputStream.position() + bytes.length) > size)
+		if((myPosition + bytes.length) > size)
 		{
 			return false;
 		}
 
-		byte[] equalArray = new byte[bytes.length];
-		mySeekableFileInputStream.read(equalArray);
-		return isEqual(equalArray, bytes);
-	}
-
-	private static boolean isEqual(byte[] o1, byte[] o2)
-	{
-		if(o1.length != o2.length)
+		for(byte b : bytes)
 		{
-			return false;
-		}
-		for(int i = 0; i < o1.length; i++)
-		{
-			byte b1 = o1[i];
-			byte b2 = o2[i];
-			if(b1 != b2)
+			if(myBuffer.get(myPosition++) != b)
 			{
 				return false;
 			}
@@ -159,11 +182,11 @@ public class MSILInputStream implements Closeable
 	 */
 	public boolean skip(int amount) throws IOException
 	{
-		if((mySeekableFileInputStream.position() + amount) > size || (mySeekableFileInputStream.position() + amount) < 0)
+		if((myPosition + amount) > size || (myPosition + amount) < 0)
 		{
 			return false;
 		}
-		mySeekableFileInputStream.skip(amount);
+		myPosition += amount;
 		return true;
 	}
 
@@ -184,13 +207,12 @@ public class MSILInputStream implements Closeable
 		{
 			return true;
 		}
-		long position = mySeekableFileInputStream.position();
-		long temp = position + (a - (position % a)) % a;
+		long temp = myPosition + (a - (myPosition % a)) % a;
 		if(temp > size)
 		{
 			return false;
 		}
-		mySeekableFileInputStream.seek(temp);
+		myPosition = (int) temp;
 		return true;
 	}
 
@@ -205,12 +227,31 @@ public class MSILInputStream implements Closeable
 		{
 			return;
 		}
-		if((mySeekableFileInputStream.position() + bytes.length) > size)
+		if((myPosition + bytes.length) > size)
 		{
 			throw new IOException("BufferedMSILInputStream.read: Premature EOF");
 		}
 
-		mySeekableFileInputStream.read(bytes);
+		java.nio.ByteBuffer view = myBuffer.duplicate();
+		view.position(myPosition);
+		view.get(bytes);
+		myPosition += bytes.length;
+	}
+
+	/**
+	 * Returns a read-only little-endian view of 'length' bytes starting at the given file position.
+	 * The bytes are not copied, and the file pointer is not moved.
+	 */
+	public java.nio.ByteBuffer slice(long position, int length) throws IOException
+	{
+		if(position < 0 || length < 0 || position + length > size)
+		{
+			throw new IOException("MSILInputStream.slice: Slice outside of file bounds: " + position + ", " + length);
+		}
+		java.nio.ByteBuffer view = myBuffer.asReadOnlyBuffer();
+		view.position((int) position);
+		view.limit((int) position + length);
+		return view.slice().order(ByteOrder.LITTLE_ENDIAN);
 	}
 
 	/**
@@ -219,7 +260,11 @@ public class MSILInputStream implements Closeable
 	 */
 	public int readBYTE() throws IOException
 	{
-		return mySeekableFileInputStream.read() & 0xFF;
+		if(myPosition >= size)
+		{
+			throw new IOException("MSILInputStream.readBYTE: Premature EOF");
+		}
+		return myBuffer.get(myPosition++) & 0xFF;
 	}
 
 	/**
@@ -228,14 +273,14 @@ public class MSILInputStream implements Closeable
 	 */
 	public int readWORD() throws IOException
 	{
-		if(mySeekableFileInputStream.position() + 1 >= size)
+		if(myPosition + 1 >= size)
 		{
 			throw new IOException("MSILInputStream.readWORD: Premature EOF");
 		}
 
-		int b1 = readBYTE();
-		int b2 = readBYTE();
-		return (int) ((b1 & 0xFF) | ((b2 & 0xFF) << 8));
+		int value = myBuffer.getShort(myPosition) & 0xFFFF;
+		myPosition += 2;
+		return value;
 	}
 
 	/**
@@ -244,14 +289,14 @@ public class MSILInputStream implements Closeable
 	 */
 	public long readDWORD() throws IOException
 	{
-		if(mySeekableFileInputStream.position() + 3 >= size)
+		if(myPosition + 3 >= size)
 		{
 			throw new IOException("MSILInputStream.readDWORD: Premature EOF");
 		}
-		byte[] bytes = new byte[4];
-		mySeekableFileInputStream.read(bytes);
 
-		return (long) ((bytes[0] & 0xFFL) | ((bytes[1] & 0xFFL) << 8) | ((bytes[2] & 0xFFL) << 16) | ((bytes[3] & 0xFFL) << 24));
+		long value = myBuffer.getInt(myPosition) & 0xFFFFFFFFL;
+		myPosition += 4;
+		return value;
 	}
 
 	/**
@@ -261,14 +306,14 @@ public class MSILInputStream implements Closeable
 	public long readDDWORD() throws IOException
 	{
 		// throws java.io.IOException if EOF
-		if(mySeekableFileInputStream.position() + 7 >= size)
+		if(myPosition + 7 >= size)
 		{
 			throw new IOException("MSILInputStream.readDWORD: Premature EOF");
 		}
-		byte[] bytes = new byte[8];
-		mySeekableFileInputStream.read(bytes);
-		return (long) ((bytes[0] & 0xFFl) | ((bytes[1] & 0xFFl) << 8) | ((bytes[2] & 0xFFl) << 16) | ((bytes[3] & 0xFFl) << 24) | ((bytes[4] &
-				0xFFl) << 32) | ((bytes[5] & 0xFFl) << 40) | ((bytes[6] & 0xFFl) << 48) | ((bytes[7] & 0xFFl) << 56));
+
+		long value = myBuffer.getLong(myPosition);
+		myPosition += 8;
+		return value;
 	}
 	/////////////////////////////
 
@@ -280,21 +325,18 @@ public class MSILInputStream implements Closeable
 	 */
 	public void zero(long length) throws IOException
 	{
-		if((mySeekableFileInputStream.position() + length) >= size || length < 0)
+		if((myPosition + length) >= size || length < 0)
 		{
 			throw new IOException("MSILInputStream.zero: Invalid length parameter");
 		}
-		/*for(int i = 0; i < length; i++)
-		{
-			data[current] = 0;
-			current++;
-		}             */
-		mySeekableFileInputStream.seek(mySeekableFileInputStream.position() + length);
+		// the mapping is read-only, so only the file pointer is moved
+		myPosition += (int) length;
 	}
 
 	@Override
 	public void close() throws IOException
 	{
-		mySeekableFileInputStream.close();
+		// a mapping is released by the GC, we only drop our reference to it
+		myBuffer = null;
 	}
 }
@@ -0,0 +1,38 @@
+package consulo.internal.dotnet.asm.mbel;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * The identity of a module: its own Assembly row and the assemblies it references.
+ * Returned by {@link ModuleParser#parseAssemblyIdentity}, which reads nothing else from the module.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public class AssemblyIdentity
+{
+	private final AssemblyInfo myAssemblyInfo;
+	private final AssemblyRefInfo[] myAssemblyRefs;
+
+	public AssemblyIdentity(@Nullable AssemblyInfo assemblyInfo, @Nonnull AssemblyRefInfo[] assemblyRefs)
+	{
+		myAssemblyInfo = assemblyInfo;
+		myAssemblyRefs = assemblyRefs;
+	}
+
+	/**
+	 * Returns the assembly info, or null if the module is not an assembly manifest (no Assembly row)
+	 */
+	@Nullable
+	public AssemblyInfo getAssemblyInfo()
+	{
+		return myAssemblyInfo;
+	}
+
+	@Nonnull
+	public AssemblyRefInfo[] getAssemblyRefs()
+	{
+		return myAssemblyRefs;
+	}
+}
@@ -0,0 +1,88 @@
+package consulo.internal.dotnet.asm.mbel;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable index of the members of a TypeDef by name. Members with the same name (overloads)
+ * are kept together in the order of the member list.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+final class MemberNameIndex<T>
+{
+	private static final MemberNameIndex<?> EMPTY = new MemberNameIndex<>(Collections.emptyMap());
+
+	@Nonnull
+	@SuppressWarnings("unchecked")
+	static <T> MemberNameIndex<T> build(@Nonnull List<T> members, @Nonnull Function<T, String> nameFunction)
+	{
+		if(members.isEmpty())
+		{
+			return (MemberNameIndex<T>) EMPTY;
+		}
+
+		Map<String, List<T>> map = new HashMap<>(members.size() * 2);
+		for(T member : members)
+		{
+			String name = nameFunction.apply(member);
+			List<T> list = map.get(name);
+			if(list == null)
+			{
+				map.put(name, Collections.singletonList(member));
+			}
+			else
+			{
+				if(list.size() == 1)
+				{
+					list = new ArrayList<>(list);
+					map.put(name, list);
+				}
+				list.add(member);
+			}
+		}
+
+		for(Map.Entry<String, List<T>> entry : map.entrySet())
+		{
+			if(entry.getValue().size() > 1)
+			{
+				entry.setValue(Collections.unmodifiableList(entry.getValue()));
+			}
+		}
+		return new MemberNameIndex<>(map);
+	}
+
+	private final Map<String, List<T>> myMembers;
+
+	private MemberNameIndex(Map<String, List<T>> members)
+	{
+		myMembers = members;
+	}
+
+	/**
+	 * Returns the first member with the given name, or null
+	 */
+	@Nullable
+	T first(String name)
+	{
+		List<T> list = myMembers.get(name);
+		return list == null ? null : list.get(0);
+	}
+
+	/**
+	 * Returns all members with the given name in list order, empty if there are none
+	 */
+	@Nonnull
+	List<T> all(String name)
+	{
+		List<T> list = myMembers.get(name);
+		return list == null ? Collections.<T>emptyList() : list;
+	}
+}
@@ -0,0 +1,43 @@
+package consulo.internal.dotnet.asm.mbel;
+
+import jakarta.annotation.Nonnull;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable view of the range [from, to) of a module-wide member array.
+ * The members of a type are a contiguous row range of their table, so the member lists of all TypeDefs
+ * can share the arrays of ModuleParser instead of copying them.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+final class MemberRangeList<T> extends AbstractList<T> implements RandomAccess
+{
+	private final T[] myArray;
+	private final int myFrom;
+	private final int myTo;
+
+	MemberRangeList(@Nonnull T[] array, int from, int to)
+	{
+		myArray = array;
+		myFrom = from;
+		myTo = to;
+	}
+
+	@Override
+	public T get(int index)
+	{
+		if(index < 0 || index >= myTo - myFrom)
+		{
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		return myArray[myFrom + index];
+	}
+
+	@Override
+	public int size()
+	{
+		return myTo - myFrom;
+	}
+}
@@ -20,13 +20,16 @@
 package consulo.internal.dotnet.asm.mbel;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import consulo.internal.dotnet.asm.signature.MethodAttributes;
 import consulo.internal.dotnet.asm.signature.MethodImplAttributes;
 import consulo.internal.dotnet.asm.signature.MethodSignature;
+import consulo.internal.dotnet.asm.signature.ParameterInfo;
 
 /**
  * This class represents a .NET Method. Not all methods will have a MethodBody. A method may
@@ -46,6 +49,8 @@ public class MethodDef extends MethodDefOrRef implements MethodAttributes,
 	private DeclSecurity security;
 	private MethodSignature signature;
 	private long methodRVA = -1L;
+	private ParameterInfo myReturnParameterInfo;
+	private ParameterInfo[] myParameterInfos;
 
 	private List<GenericParamDef> myGenericParamDefs = Collections.emptyList();
 
@@ -111,11 +116,67 @@ public class MethodDef extends MethodDefOrRef implements MethodAttributes,
 	}
 
 	/**
-	 * Sets the method signature for this method
+	 * Sets the method signature for this method.
+	 * The ParameterInfos are kept by index, those past the parameter count of the new signature are dropped.
 	 */
 	public void setSignature(MethodSignature sig)
 	{
 		signature = sig;
+		if(myParameterInfos != null && sig != null)
+		{
+			myParameterInfos = Arrays.copyOf(myParameterInfos, sig.getParameters().size());
+		}
+	}
+
+	/**
+	 * Returns the ParameterInfo (name, flags, default value) of the return value (may be null).
+	 * It is kept here and not in the signature, because parsed signatures are shared between members.
+	 */
+	@Nullable
+	public ParameterInfo getReturnParameterInfo()
+	{
+		return myReturnParameterInfo;
+	}
+
+	/**
+	 * Sets the ParameterInfo of the return value (may be null)
+	 */
+	public void setReturnParameterInfo(@Nullable ParameterInfo info)
+	{
+		myReturnParameterInfo = info;
+	}
+
+	/**
+	 * Returns the ParameterInfo of the parameter (may be null)
+	 *
+	 * @param index 0-based index into getSignature().getParameters()
+	 */
+	@Nullable
+	public ParameterInfo getParameterInfo(int index)
+	{
+		if(myParameterInfos == null || index >= myParameterInfos.length)
+		{
+			return null;
+		}
+		return myParameterInfos[index];
+	}
+
+	/**
+	 * Sets the ParameterInfo of the parameter (may be null)
+	 *
+	 * @param index 0-based index into getSignature().getParameters()
+	 */
+	public void setParameterInfo(int index, @Nullable ParameterInfo info)
+	{
+		if(myParameterInfos == null)
+		{
+			myParameterInfos = new ParameterInfo[Math.max(signature.getParameters().size(), index + 1)];
+		}
+		else if(index >= myParameterInfos.length)
+		{
+			myParameterInfos = Arrays.copyOf(myParameterInfos, index + 1);
+		}
+		myParameterInfos[index] = info;
 	}
 
 	/**
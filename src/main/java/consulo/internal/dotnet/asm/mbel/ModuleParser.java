@@ -19,13 +19,18 @@
 
 package consulo.internal.dotnet.asm.mbel;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.io.MSILInputStream;
-import consulo.internal.dotnet.asm.metadata.GenericTableValue;
+import consulo.internal.dotnet.asm.metadata.Metadata;
+import consulo.internal.dotnet.asm.metadata.MetadataDelta;
+import consulo.internal.dotnet.asm.metadata.MetadataTableReader;
+import consulo.internal.dotnet.asm.metadata.MetadataTables;
+import consulo.internal.dotnet.asm.metadata.TableColumns;
 import consulo.internal.dotnet.asm.metadata.TableConstants;
 import consulo.internal.dotnet.asm.parse.MSILParseException;
 import consulo.internal.dotnet.asm.parse.PEModule;
 import consulo.internal.dotnet.asm.signature.*;
+import consulo.internal.dotnet.asm.util.IntObjectMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,7 +38,16 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
 
 /**
  * This class is all that is needed to parse a Module from a file.
@@ -55,16 +69,109 @@ public class ModuleParser extends BaseCustomAttributeOwner
 
 	public static final int VERSION = 2;
 
+	// lazy mode: custom attributes of these tables are added when their owner is built
+	private static final long LAZY_ATTRIBUTE_OWNERS = TableConstants.tableMask(TableConstants.TypeDef, TableConstants.Field, TableConstants.Method, TableConstants.Param,
+			TableConstants.InterfaceImpl, TableConstants.MemberRef, TableConstants.DeclSecurity, TableConstants.StandAloneSig, TableConstants.Event, TableConstants.Property,
+			TableConstants.GenericParam, TableConstants.GenericParamConstraint);
+
+	private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+	// rows per task when member signatures are decoded on the pool, smaller tables are decoded on the calling thread
+	private static final int PARALLEL_SIGNATURE_CHUNK = 2048;
+
 	@Nonnull
 	public static AssemblyInfo parseAssemblyInfo(File file) throws IOException, MSILParseException
 	{
-		ModuleParser parser = new ModuleParser(file, TableConstants.Assembly);
-		parser.buildAssemblyInfo();
-		return parser.getAssemblyInfo();
+		return parseAssemblyInfo(new MSILInputStream(file));
+	}
+
+	@Nonnull
+	public static AssemblyInfo parseAssemblyInfo(byte[] data) throws IOException, MSILParseException
+	{
+		return parseAssemblyInfo(new MSILInputStream(data));
+	}
+
+	@Nonnull
+	public static AssemblyInfo parseAssemblyInfo(java.nio.ByteBuffer buffer) throws IOException, MSILParseException
+	{
+		return parseAssemblyInfo(new MSILInputStream(buffer));
+	}
+
+	@Nonnull
+	private static AssemblyInfo parseAssemblyInfo(MSILInputStream in) throws IOException, MSILParseException
+	{
+		return parseAssemblyIdentity(in).getAssemblyInfo();
+	}
+
+	/**
+	 * Reads only the Assembly and AssemblyRef rows of the module and the heap entries they reference.
+	 * No heap is loaded and no other table is decoded, so this is much cheaper than a full parse.
+	 */
+	@Nonnull
+	public static AssemblyIdentity parseAssemblyIdentity(File file) throws IOException, MSILParseException
+	{
+		return parseAssemblyIdentity(new MSILInputStream(file));
+	}
+
+	@Nonnull
+	public static AssemblyIdentity parseAssemblyIdentity(byte[] data) throws IOException, MSILParseException
+	{
+		return parseAssemblyIdentity(new MSILInputStream(data));
+	}
+
+	@Nonnull
+	public static AssemblyIdentity parseAssemblyIdentity(java.nio.ByteBuffer buffer) throws IOException, MSILParseException
+	{
+		return parseAssemblyIdentity(new MSILInputStream(buffer));
+	}
+
+	@Nonnull
+	private static AssemblyIdentity parseAssemblyIdentity(MSILInputStream in) throws IOException, MSILParseException
+	{
+		try (MSILInputStream stream = in)
+		{
+			Metadata metadata = new PEModule(stream).metadata;
+			MetadataTableReader reader = metadata.parseTableHeader(stream).createTableReader(stream);
+
+			AssemblyInfo assemblyInfo = null;
+			int table = TableConstants.Assembly;
+			if(!reader.isEmpty(table))
+			{
+				long hash = reader.getLong(table, 0, TableColumns.Assembly.HASH_ALG_ID);
+				int maj = reader.getInt(table, 0, TableColumns.Assembly.MAJOR_VERSION);
+				int min = reader.getInt(table, 0, TableColumns.Assembly.MINOR_VERSION);
+				int bn = reader.getInt(table, 0, TableColumns.Assembly.BUILD_NUMBER);
+				int rn = reader.getInt(table, 0, TableColumns.Assembly.REVISION_NUMBER);
+				String name = metadata.readHeapString(stream, reader.getLong(table, 0, TableColumns.Assembly.NAME));
+				String culture = metadata.readHeapString(stream, reader.getLong(table, 0, TableColumns.Assembly.CULTURE));
+				byte[] publicKey = metadata.readHeapBlob(stream, reader.getLong(table, 0, TableColumns.Assembly.PUBLIC_KEY));
+				long flags = reader.getLong(table, 0, TableColumns.Assembly.FLAGS);
+
+				assemblyInfo = new AssemblyInfo(hash, maj, min, bn, rn, flags, publicKey, name, culture);
+			}
+
+			table = TableConstants.AssemblyRef;
+			AssemblyRefInfo[] assemblyRefs = new AssemblyRefInfo[reader.getRowCount(table)];
+			for(int i = 0; i < assemblyRefs.length; i++)
+			{
+				int maj = reader.getInt(table, i, TableColumns.AssemblyRef.MAJOR_VERSION);
+				int min = reader.getInt(table, i, TableColumns.AssemblyRef.MINOR_VERSION);
+				int bn = reader.getInt(table, i, TableColumns.AssemblyRef.BUILD_NUMBER);
+				int rn = reader.getInt(table, i, TableColumns.AssemblyRef.REVISION_NUMBER);
+				long flags = reader.getLong(table, i, TableColumns.AssemblyRef.FLAGS);
+				byte[] pb = metadata.readHeapBlob(stream, reader.getLong(table, i, TableColumns.AssemblyRef.PUBLIC_KEY_OR_TOKEN));
+				String name = metadata.readHeapString(stream, reader.getLong(table, i, TableColumns.AssemblyRef.NAME));
+				String cult = metadata.readHeapString(stream, reader.getLong(table, i, TableColumns.AssemblyRef.CULTURE));
+				byte[] hashValue = metadata.readHeapBlob(stream, reader.getLong(table, i, TableColumns.AssemblyRef.HASH_VALUE));
+
+				assemblyRefs[i] = new AssemblyRefInfo(maj, min, bn, rn, flags, pb, name, cult, hashValue);
+			}
+			return new AssemblyIdentity(assemblyInfo, assemblyRefs);
+		}
 	}
 
 	private PEModule pe_module;
-	private GenericTableValues myTableValues;
+	private MetadataTables myTables;
 	private TableConstants tc;
 
 	private MSILInputStream in;
@@ -83,6 +190,8 @@ public class ModuleParser extends BaseCustomAttributeOwner
 	private FileReference[] fileReferences = null;
 	private ExportedTypeRef[] exportedTypes = null;
 	private TypeGroup group = null;
+	// top-level TypeDefs and ExportedTypes by name, built once the nesting is known
+	private TypeNameIndex myTypeNameIndex;
 	private ManifestResource[] mresources = null;
 	private AssemblyInfo assemblyInfo = null;
 	private MemberRef[] memberRefs = null;
@@ -92,6 +201,15 @@ public class ModuleParser extends BaseCustomAttributeOwner
 	private ModuleRefInfo[] moduleRefs = null;
 	private DeclSecurity[] declSecurities = null;
 	private StandAloneSignature[] standAloneSigs = null;
+	// parsed member signatures by #Blob offset, shared by all members with the same blob
+	private final IntObjectMap<Signature> mySignatures = new IntObjectMap<>();
+	// lazy mode only: the TypeDefs whose members are built (or being built), null if the module is parsed eagerly
+	private boolean[] myLoadedTypes;
+	// lazy mode only: the PropertyMap and EventMap rows by TypeDef row (see mapRowsByParent), these tables are not sorted
+	private int[] myPropertyMapRows;
+	private int[] myEventMapRows;
+	// decodes the member signatures of large tables in parallel, null to decode on the calling thread
+	private final ForkJoinPool myPool;
 
 	private int Generation;
 	private String Name;
@@ -105,19 +223,71 @@ public class ModuleParser extends BaseCustomAttributeOwner
 	 */
 	public ModuleParser(File file) throws IOException, MSILParseException
 	{
-		this(file, -1);
+		this(file, new ModuleParserOptions());
+	}
+
+	public ModuleParser(File file, @Nonnull ModuleParserOptions options) throws IOException, MSILParseException
+	{
+		this(new MSILInputStream(file), options);
+	}
+
+	/**
+	 * Makes a ModuleParser over an in-memory module image, for example an entry read from a package.
+	 * The array is not copied, so it must not be modified while parsing.
+	 */
+	public ModuleParser(byte[] data) throws IOException, MSILParseException
+	{
+		this(data, new ModuleParserOptions());
+	}
+
+	public ModuleParser(byte[] data, @Nonnull ModuleParserOptions options) throws IOException, MSILParseException
+	{
+		this(new MSILInputStream(data), options);
+	}
+
+	/**
+	 * Makes a ModuleParser over the remaining bytes of the given buffer.
+	 * The buffer content is not copied and its position is left untouched.
+	 */
+	public ModuleParser(java.nio.ByteBuffer buffer) throws IOException, MSILParseException
+	{
+		this(buffer, new ModuleParserOptions());
+	}
+
+	public ModuleParser(java.nio.ByteBuffer buffer, @Nonnull ModuleParserOptions options) throws IOException, MSILParseException
+	{
+		this(new MSILInputStream(buffer), options);
 	}
 
-	private ModuleParser(File file, int tableIndexStop) throws IOException, MSILParseException
+	private ModuleParser(MSILInputStream in, ModuleParserOptions options) throws IOException, MSILParseException
 	{
-		in = new MSILInputStream(file);
+		this.in = in;
+		myPool = options.getPool();
 		pe_module = new PEModule(in);
-		tc = pe_module.metadata.parseTableConstants(in, tableIndexStop);
-		myTableValues = tc.getTables();
-		if(tableIndexStop == -1)
+		boolean lazy = options.isLazy();
+		tc = pe_module.metadata.parseTableConstants(in, lazy ? 0 : TableConstants.ALL_TABLES, options.getPool());
+		tc.setStringPool(options.getStringPool());
+		if(lazy && hasPointerTables())
+		{
+			// member lists of an unoptimized (#-) module go through the *Ptr tables, so they are not contiguous per type
+			lazy = false;
+			tc.parseTables(in, TableConstants.ALL_TABLES, options.getPool());
+		}
+		// the lazy mode reads the cells straight from the module bytes instead of decoding the tables
+		myTables = lazy ? tc.createTableReader(in) : tc.getTables();
+		parse(lazy);
+	}
+
+	private boolean hasPointerTables()
+	{
+		for(int table : new int[]{TableConstants.FieldPtr, TableConstants.MethodPtr, TableConstants.ParamPtr, TableConstants.EventPtr, TableConstants.PropertyPtr})
 		{
-			parse();
+			if(tc.getTableLayout(table).getRowCount() > 0)
+			{
+				return true;
+			}
 		}
+		return false;
 	}
 
 	/**
@@ -125,12 +295,12 @@ public class ModuleParser extends BaseCustomAttributeOwner
 	 */
 	public MethodSignature getStandAloneSignature(long token)
 	{
-		long type = (token >> 24) & 0xFFL;
-		long tokrow = token & 0xFFFFFFL;
+		int type = TableConstants.tableOf(token);
+		int tokrow = TableConstants.ridOf(token);
 
 		if(type == TableConstants.StandAloneSig)
 		{
-			return (MethodSignature) standAloneSigs[(int) tokrow - 1];
+			return (MethodSignature) standAloneSigAt(tokrow - 1);
 		}
 		return null;
 	}
@@ -141,14 +311,14 @@ public class ModuleParser extends BaseCustomAttributeOwner
 	 */
 	public MethodDef getVTableFixup(long methodToken)
 	{
-		long toktype = (methodToken >> 24) & 0xFFL;
-		long tokrow = (methodToken & 0xFFFFFFL);
+		int toktype = TableConstants.tableOf(methodToken);
+		int tokrow = TableConstants.ridOf(methodToken);
 
 		if(toktype != TableConstants.Method)
 		{
 			return null;
 		}
-		return methods[(int) (tokrow - 1L)];
+		return methodAt(tokrow - 1);
 	}
 
 	/**
@@ -157,16 +327,16 @@ public class ModuleParser extends BaseCustomAttributeOwner
 	 */
 	public MethodDefOrRef getMethodDefOrRef(long token)
 	{
-		long type = (token >> 24) & 0xFFL;
-		long tokrow = token & 0xFFFFFFL;
+		int type = TableConstants.tableOf(token);
+		int tokrow = TableConstants.ridOf(token);
 
 		if(type == TableConstants.Method)
 		{
-			return methods[(int) getMethod(tokrow) - 1];
+			return methodAt((int) getMethod(tokrow) - 1);
 		}
 		else if(type == TableConstants.MemberRef)
 		{
-			return (MethodDefOrRef) memberRefs[(int) tokrow - 1];
+			return (MethodDefOrRef) memberRefAt(tokrow - 1);
 		}
 		return null;
 	}
@@ -177,16 +347,16 @@ public class ModuleParser extends BaseCustomAttributeOwner
 	 */
 	public FieldRef getFieldRef(long token)
 	{
-		long type = (token >> 24) & 0xFFL;
-		long tokrow = (token & 0xFFFFFFL);
+		int type = TableConstants.tableOf(token);
+		int tokrow = TableConstants.ridOf(token);
 
 		if(type == TableConstants.Field)
 		{
-			return fields[(int) getField(tokrow) - 1];
+			return fieldAt((int) getField(tokrow) - 1);
 		}
 		else if(type == TableConstants.MemberRef)
 		{
-			return (FieldRef) memberRefs[(int) tokrow - 1];
+			return (FieldRef) memberRefAt(tokrow - 1);
 		}
 		return null;
 	}
@@ -197,8 +367,8 @@ public class ModuleParser extends BaseCustomAttributeOwner
 	 */
 	public String getUserString(long token)
 	{
-		long type = (token >> 24) & 0xFFL;
-		long tokrow = token & 0xFFFFFFL;
+		int type = TableConstants.tableOf(token);
+		int tokrow = TableConstants.ridOf(token);
 		if(type != TableConstants.USString)
 		{
 			return null;
@@ -206,17 +376,40 @@ public class ModuleParser extends BaseCustomAttributeOwner
 		return tc.getUSString(tokrow);
 	}
 
+	/**
+	 * Returns the tokens of all user strings of the module (the operands of ldstr), in heap order
+	 */
+	@Nonnull
+	public PrimitiveIterator.OfInt getUserStringTokens()
+	{
+		PrimitiveIterator.OfInt offsets = tc.getUSStringOffsets();
+		return new PrimitiveIterator.OfInt()
+		{
+			@Override
+			public boolean hasNext()
+			{
+				return offsets.hasNext();
+			}
+
+			@Override
+			public int nextInt()
+			{
+				return TableConstants.USString << 24 | offsets.nextInt();
+			}
+		};
+	}
+
 	/**
 	 * Returns a local variable list, given the token of a StandAloneSig table
 	 */
 	public LocalVarList getLocalVarList(long token)
 	{
-		long type = (token >> 24) & 0xFFL;
-		long tokrow = (token & 0xFFFFFFL);
+		int type = TableConstants.tableOf(token);
+		int tokrow = TableConstants.ridOf(token);
 
 		if(type == TableConstants.StandAloneSig)
 		{
-			return (LocalVarList) standAloneSigs[(int) tokrow - 1];
+			return (LocalVarList) standAloneSigAt(tokrow - 1);
 		}
 		return null;
 	}
@@ -227,20 +420,20 @@ public class ModuleParser extends BaseCustomAttributeOwner
 	 */
 	public AbstractTypeReference getClassRef(long token)
 	{
-		long type = (token >> 24) & 0xFFL;
-		long tokrow = token & 0xFFFFFFL;
+		int type = TableConstants.tableOf(token);
+		int tokrow = TableConstants.ridOf(token);
 
 		if(type == TableConstants.TypeDef)
 		{
-			return typeDefs[(int) tokrow - 1];
+			return typeDefs[tokrow - 1];
 		}
 		else if(type == TableConstants.TypeRef)
 		{
-			return typeRefs[(int) tokrow - 1];
+			return typeRefs[tokrow - 1];
 		}
 		else if(type == TableConstants.TypeSpec)
 		{
-			return typeSpecs[(int) tokrow - 1];
+			return typeSpecs[tokrow - 1];
 		}
 
 		return null;
@@ -259,11 +452,8 @@ public class ModuleParser extends BaseCustomAttributeOwner
 	 * It will parse the various structures in the most convenient order possible, all of which
 	 * are either accessible from the Module, or are unimportant and discarded.
 	 */
-	private void parse() throws IOException, MSILParseException
+	private void parse(boolean lazy) throws IOException, MSILParseException
 	{
-		// FIXME [VISTALL] drop unused
-		myTableValues.getAndDrop(TableConstants.MethodSpec);
-
 		buildAssemblyInfo();
 		TypeDefTempInfo[] typeDefTempInfos = buildTypeDefs();
 		setNestedClasses();
@@ -275,21 +465,29 @@ public class ModuleParser extends BaseCustomAttributeOwner
 		buildFileReferences();
 		buildManifestResources();
 		buildExportedTypes();
+		myTypeNameIndex = new TypeNameIndex(typeDefs, exportedTypes);
 
 		buildTypeRefs();
 		buildTypeSpecs();
 		setSuperClasses(typeDefTempInfos);
 
-		group = new TypeGroup(typeDefs, typeRefs, typeSpecs);
+		group = new TypeGroup(typeDefs, typeRefs, typeSpecs, myTypeNameIndex);
+
+		if(lazy)
+		{
+			prepareLazyMembers();
+			pe_module.bufferSections(in);
+			return;
+		}
 
 		setInterfaceImpls();
 
 		buildFields();
 		setFieldLayouts();
 		setFieldRVAs();
-		if(myTableValues.get(TableConstants.Param) != null)
+		if(!myTables.isEmpty(TableConstants.Param))
 		{
-			params = new ParameterInfo[myTableValues.get(TableConstants.Param).length];
+			params = new ParameterInfo[myTables.getRowCount(TableConstants.Param)];
 		}
 		buildMethods();
 		setImplMaps();
@@ -317,283 +515,1080 @@ public class ModuleParser extends BaseCustomAttributeOwner
 		setCustomAttributes();
 
 		pe_module.bufferSections(in);
-		myTableValues = null;
+		myTables = null;
 	}
 
-	//////////////////////////////////////////////////////////////////////////////////
-
-	private long getMethod(long token)
+	/**
+	 * Applies an Edit-and-Continue (hot reload) metadata delta to the parsed module,
+	 * so an edit costs time proportional to the edit and not to the module. Deltas must be applied in the order they were emitted.
+	 * <p/>
+	 * Changed rows update the existing objects and added rows are appended for TypeDef (with NestedClass and the base type),
+	 * AssemblyRef, TypeRef, TypeSpec, Field, Method, Param, MemberRef and StandAloneSig.
+	 * Added fields, methods and parameters are attached to their owners as the ENCLog says.
+	 * Rows of the other tables (properties, events, custom attributes, ...) are not applied.
+	 * A lazily parsed module (see ModuleParserOptions.setLazy) can not take deltas.
+	 *
+	 * @param metadata the metadata root of the delta (starting with the BSJB signature)
+	 */
+	public void applyDelta(@Nonnull byte[] metadata) throws IOException, MSILParseException
 	{
-		// maps tokens through MethodPtrs, if necessary
-		if(myTableValues.get(TableConstants.MethodPtr) != null)
-		{
-			return myTableValues.get(TableConstants.MethodPtr)[(int) token - 1].getTableIndex("Method");
-		}
-		else
+		if(myLoadedTypes != null)
 		{
-			return token;
+			throw new IllegalStateException("Deltas can not be applied to a lazily parsed module");
 		}
-	}
+		MetadataDelta delta = MetadataDelta.parse(metadata, tc);
+		// the newest generation resolves heap offsets of all generations
+		tc = delta.getTableConstants();
 
-	private long getField(long token)
-	{
-		if(myTableValues.get(TableConstants.FieldPtr) != null)
-		{
-			return myTableValues.get(TableConstants.FieldPtr)[(int) token - 1].getTableIndex("Field");
-		}
-		else
+		int typeDefCount = typeDefs == null ? 0 : typeDefs.length;
+		applyTypeDefs(delta);
+		applyNestedClasses(delta, typeDefCount);
+		for(int i = typeDefCount; typeDefs != null && i < typeDefs.length; i++)
 		{
-			return token;
+			myTypeNameIndex.addTypeDef(typeDefs[i]);
 		}
+		applyAssemblyRefs(delta);
+		applyTypeRefs(delta);
+		applyTypeSpecs(delta);
+		group = new TypeGroup(typeDefs, typeRefs, typeSpecs, myTypeNameIndex);
+		applySuperClasses(delta);
+
+		applyFields(delta);
+		applyMethods(delta);
+		applyParams(delta);
+		applyMemberRefs(delta);
+		applyStandAloneSigs(delta);
+		applyLog(delta);
 	}
 
-	private long getEvent(long token)
+	private void applyTypeDefs(MetadataDelta delta)
 	{
-		if(myTableValues.get(TableConstants.EventPtr) != null)
-		{
-			return myTableValues.get(TableConstants.EventPtr)[(int) token - 1].getTableIndex("Event");
-		}
-		else
+		final int table = TableConstants.TypeDef;
+		MetadataTables tables = delta.getTables();
+		for(int row = 0; row < tables.getRowCount(table); row++)
 		{
-			return token;
+			int rid = TableConstants.ridOf(delta.getToken(table, row));
+			long flags = tables.getLong(table, row, TableColumns.TypeDef.FLAGS);
+			if(typeDefs != null && rid <= typeDefs.length)
+			{
+				typeDefs[rid - 1].setFlags(flags);
+				continue;
+			}
+
+			String name = tables.getString(table, row, TableColumns.TypeDef.NAME);
+			String ns = tables.getString(table, row, TableColumns.TypeDef.NAMESPACE);
+			typeDefs = ensureLength(typeDefs, rid, TypeDef[]::new);
+			typeDefs[rid - 1] = new TypeDef(ns, name, flags);
 		}
 	}
 
-	private long getParam(long token)
+	private void applyNestedClasses(MetadataDelta delta, int typeDefCount)
 	{
-		if(myTableValues.get(TableConstants.ParamPtr) != null)
+		final int table = TableConstants.NestedClass;
+		MetadataTables tables = delta.getTables();
+		for(int row = 0; row < tables.getRowCount(table); row++)
 		{
-			return myTableValues.get(TableConstants.ParamPtr)[(int) token - 1].getTableIndex("Param");
-		}
-		else
-		{
-			return token;
+			long nest = tables.getInt(table, row, TableColumns.NestedClass.NESTED_CLASS);
+			long enclose = tables.getInt(table, row, TableColumns.NestedClass.ENCLOSING_CLASS);
+			// the nesting of existing types cannot change
+			if(nest > typeDefCount)
+			{
+				getByLongIndex(typeDefs, enclose).addNestedClass(getByLongIndex(typeDefs, nest));
+			}
 		}
 	}
 
-	private long getProperty(long token)
+	private void applyAssemblyRefs(MetadataDelta delta)
 	{
-		if(myTableValues.get(TableConstants.PropertyPtr) != null)
-		{
-			return myTableValues.get(TableConstants.PropertyPtr)[(int) token - 1].getTableIndex("Property");
-		}
-		else
+		final int table = TableConstants.AssemblyRef;
+		MetadataTables tables = delta.getTables();
+		for(int row = 0; row < tables.getRowCount(table); row++)
 		{
-			return token;
+			int rid = TableConstants.ridOf(delta.getToken(table, row));
+			if(assemblyRefs == null || rid > assemblyRefs.length)
+			{
+				assemblyRefs = ensureLength(assemblyRefs, rid, AssemblyRefInfo[]::new);
+				assemblyRefs[rid - 1] = buildAssemblyRef(tables, row);
+			}
 		}
 	}
 
-	//////////////////////////////////////////////////////////////////
-
-	private void buildAssemblyInfo()
+	private void applyTypeRefs(MetadataDelta delta)
 	{
-		// build Assembly table (after Module) DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.Assembly);
-		if(row == null)
+		final int table = TableConstants.TypeRef;
+		MetadataTables tables = delta.getTables();
+		for(int row = 0; row < tables.getRowCount(table); row++)
 		{
-			return;
-		}
+			int rid = TableConstants.ridOf(delta.getToken(table, row));
+			if(typeRefs != null && rid <= typeRefs.length)
+			{
+				// references never change
+				continue;
+			}
 
-		GenericTableValue ass = row[0];
+			typeRefs = ensureLength(typeRefs, rid, TypeRef[]::new);
 
-		long hash = ass.getConstant("HashAlgID").longValue();
-		int maj = ass.getConstant("MajorVersion").intValue();
-		int min = ass.getConstant("MinorVersion").intValue();
-		int bn = ass.getConstant("BuildNumber").intValue();
-		int rn = ass.getConstant("RevisionNumber").intValue();
-		String name = ass.getString("Name");
-		String culture = ass.getString("Culture");
-		byte[] publicKey = ass.getBlob("PublicKey");
-		long flags = ass.getConstant("Flags").longValue();
+			String ns = tables.getString(table, row, TableColumns.TypeRef.NAMESPACE);
+			String name = tables.getString(table, row, TableColumns.TypeRef.NAME);
+			long coded = tables.getInt(table, row, TableColumns.TypeRef.RESOLUTION_SCOPE);
+			if(coded == 0L)
+			{
+				typeRefs[rid - 1] = myTypeNameIndex.findExportedType(ns, name);
+				continue;
+			}
 
-		assemblyInfo = new AssemblyInfo(hash, maj, min, bn, rn, flags, publicKey, name, culture);
+			long token = TableConstants.decodeCodedIndex(coded, TableConstants.ResolutionScope);
+			switch(TableConstants.tableOf(token))
+			{
+				case TableConstants.ModuleRef:
+					typeRefs[rid - 1] = new ModuleTypeRef(moduleRefs[TableConstants.ridOf(token) - 1], ns, name);
+					break;
+				case TableConstants.TypeRef:
+					typeRefs[rid - 1] = new NestedTypeRef(ns, name, typeRefs[TableConstants.ridOf(token) - 1]);
+					break;
+				case TableConstants.AssemblyRef:
+					typeRefs[rid - 1] = new AssemblyTypeRef(assemblyRefs[TableConstants.ridOf(token) - 1], ns, name);
+					break;
+				case TableConstants.Module:
+					typeRefs[rid - 1] = myTypeNameIndex.findTypeDef(ns, name);
+					break;
+				default:
+					LOG.warn("Unsupported resolution scope: " + Integer.toHexString(TableConstants.tableOf(token)));
+					break;
+			}
+		}
 	}
 
-	private void buildAssemblyRefs()
+	private void applyTypeSpecs(MetadataDelta delta)
 	{
-		// build AssemblyRef table DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.AssemblyRef);
-		if(row == null)
+		final int table = TableConstants.TypeSpec;
+		MetadataTables tables = delta.getTables();
+		int count = typeSpecs == null ? 0 : typeSpecs.length;
+		for(int row = 0; row < tables.getRowCount(table); row++)
 		{
-			return;
+			int rid = TableConstants.ridOf(delta.getToken(table, row));
+			if(rid > count)
+			{
+				typeSpecs = ensureLength(typeSpecs, rid, TypeSpec[]::new);
+				typeSpecs[rid - 1] = new TypeSpec(null);
+			}
 		}
 
-		assemblyRefs = new AssemblyRefInfo[row.length];
-		for(int i = 0; i < row.length; i++)
+		// specs may refer to each other, so they are parsed once all of them exist
+		TypeGroup typeGroup = new TypeGroup(typeDefs, typeRefs, typeSpecs, myTypeNameIndex);
+		for(int row = 0; row < tables.getRowCount(table); row++)
 		{
-			int Maj = row[i].getConstant("MajorVersion").intValue();
-			int Min = row[i].getConstant("MinorVersion").intValue();
-			int BN = row[i].getConstant("BuildNumber").intValue();
-			int RN = row[i].getConstant("RevisionNumber").intValue();
-			long flags = row[i].getConstant("Flags").longValue();
-			byte[] pb = row[i].getBlob("PublicKeyOrToken");
-			String name = row[i].getString("Name");
-			String cult = row[i].getString("Culture");
-			byte[] hash = row[i].getBlob("HashValue");
-
-			assemblyRefs[i] = new AssemblyRefInfo(Maj, Min, BN, RN, flags, pb, name, cult, hash);
+			int rid = TableConstants.ridOf(delta.getToken(table, row));
+			if(rid > count)
+			{
+				typeSpecs[rid - 1].setSignature(TypeSignatureParser.parse(tables.getBlobReader(table, row, TableColumns.TypeSpec.SIGNATURE), typeGroup));
+			}
 		}
 	}
 
-	private void buildModule()
+	private void applySuperClasses(MetadataDelta delta)
 	{
-		// build Module (after Assembly) DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.Module);
-		if(row == null)
+		final int table = TableConstants.TypeDef;
+		MetadataTables tables = delta.getTables();
+		for(int row = 0; row < tables.getRowCount(table); row++)
 		{
-			return;
-		}
-
-		GenericTableValue mod = row[0];
-		String name = mod.getString("Name");
-		int generation = mod.getConstant("Generation").intValue();
-		byte[] mvid = mod.getGUID("Mvid");
-		byte[] encid = mod.getGUID("EncID");
-		byte[] encbaseid = mod.getGUID("EncBaseID");
+			long coded = tables.getInt(table, row, TableColumns.TypeDef.EXTENDS);
+			if(coded == 0L)
+			{
+				continue;
+			}
 
-		Generation = generation;
-		Mvid = mvid;
-		EncID = encid;
-		EncBaseID = encbaseid;
+			TypeDef typeDef = typeDefs[TableConstants.ridOf(delta.getToken(table, row)) - 1];
+			long token = TableConstants.decodeCodedIndex(coded, TableConstants.TypeDefOrRefOrSpec);
+			if(TableConstants.tableOf(token) == TableConstants.TypeDef)
+			{
+				typeDef.setSuperClass(getByLongIndex(typeDefs, TableConstants.ridOf(token)));
+			}
+			else if(TableConstants.tableOf(token) == TableConstants.TypeRef)
+			{
+				typeDef.setSuperClass(getByLongIndex(typeRefs, TableConstants.ridOf(token)));
+			}
+			else if(TableConstants.tableOf(token) == TableConstants.TypeSpec)
+			{
+				typeDef.setSuperClass(getByLongIndex(typeSpecs, TableConstants.ridOf(token)));
+			}
+		}
 	}
 
-	private void buildModuleRefs()
+	private void applyFields(MetadataDelta delta)
 	{
-		// build ModuleRef tables DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.ModuleRef);
-		if(row == null)
+		final int table = TableConstants.Field;
+		MetadataTables tables = delta.getTables();
+		for(int row = 0; row < tables.getRowCount(table); row++)
 		{
-			return;
-		}
+			int rid = TableConstants.ridOf(delta.getToken(table, row));
+			int flags = tables.getInt(table, row, TableColumns.Field.FLAGS);
+			if(fields != null && rid <= fields.length)
+			{
+				fields[rid - 1].setFlags(flags);
+				continue;
+			}
 
-		moduleRefs = new ModuleRefInfo[row.length];
-		for(int i = 0; i < row.length; i++)
-		{
-			String modName = row[i].getString("Name");
-			moduleRefs[i] = new ModuleRefInfo(modName);
+			String name = tables.getString(table, row, TableColumns.Field.NAME);
+			FieldSignature sig = parseSignature(tables.getLong(table, row, TableColumns.Field.SIGNATURE), FieldSignature.class, FieldSignature::parse);
+			fields = ensureLength(fields, rid, Field[]::new);
+			fields[rid - 1] = new Field(name, sig);
+			fields[rid - 1].setFlags(flags);
 		}
 	}
 
-	private void buildEntryPoint()
+	private void applyMethods(MetadataDelta delta)
 	{
-		// build Entrypoint (after Module)
-		long entrytoken = pe_module.cliHeader.EntryPointToken;
-		long type = (entrytoken >> 24) & 0xFFL;
-		long tokrow = (entrytoken & 0xFFFFFFL);
-
-		if(type == TableConstants.Method)
-		{
-			entryPoint = new EntryPoint(methods[(int) getMethod(tokrow) - 1]);
-		}
-		else if(type == TableConstants.File)
+		final int table = TableConstants.Method;
+		MetadataTables tables = delta.getTables();
+		for(int row = 0; row < tables.getRowCount(table); row++)
 		{
-			entryPoint = new EntryPoint(fileReferences[(int) tokrow - 1]);
+			int rid = TableConstants.ridOf(delta.getToken(table, row));
+			int implFlags = tables.getInt(table, row, TableColumns.Method.IMPL_FLAGS);
+			int flags = tables.getInt(table, row, TableColumns.Method.FLAGS);
+			MethodSignature sig = parseSignature(tables.getLong(table, row, TableColumns.Method.SIGNATURE), MethodSignature.class, MethodSignature::parse);
+
+			MethodDef method;
+			if(methods != null && rid <= methods.length)
+			{
+				method = methods[rid - 1];
+				method.setImplFlags(implFlags);
+				method.setFlags(flags);
+				method.setSignature(sig);
+			}
+			else
+			{
+				String name = tables.getString(table, row, TableColumns.Method.NAME);
+				methods = ensureLength(methods, rid, MethodDef[]::new);
+				method = methods[rid - 1] = new MethodDef(name, implFlags, flags, sig);
+			}
+
+			long RVA = tables.getLong(table, row, TableColumns.Method.RVA);
+			if((RVA != 0) && (implFlags & MethodDef.CodeTypeMask) == MethodDef.Native)
+			{
+				method.setMethodRVA(RVA);
+			}
 		}
 	}
 
-	private void buildFileReferences()
+	private void applyParams(MetadataDelta delta)
 	{
-		// build Files DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.File);
-		if(row == null)
-		{
-			return;
-		}
-
-		fileReferences = new FileReference[row.length];
-		for(int i = 0; i < row.length; i++)
+		final int table = TableConstants.Param;
+		MetadataTables tables = delta.getTables();
+		for(int row = 0; row < tables.getRowCount(table); row++)
 		{
-			long flags = row[i].getConstant("Flags").longValue();
-			String name = row[i].getString("Name");
-			byte[] hashValue = row[i].getBlob("HashValue");
+			int rid = TableConstants.ridOf(delta.getToken(table, row));
+			String name = tables.getString(table, row, TableColumns.Param.NAME);
+			int flags = tables.getInt(table, row, TableColumns.Param.FLAGS);
+			if(params != null && rid <= params.length && params[rid - 1] != null)
+			{
+				params[rid - 1].setName(name);
+				params[rid - 1].setFlags(flags);
+				continue;
+			}
 
-			fileReferences[i] = new FileReference(flags, name, hashValue);
+			params = ensureLength(params, rid, ParameterInfo[]::new);
+			params[rid - 1] = new ParameterInfo(name, flags);
 		}
 	}
 
-	private void buildManifestResources() throws IOException
+	private void applyMemberRefs(MetadataDelta delta)
 	{
-		// build ManifestResources (after FileReferences) DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.ManifestResource);
-		if(row == null)
-		{
-			return;
-		}
-
-		mresources = new ManifestResource[row.length];
-		for(int i = 0; i < row.length; i++)
+		final int table = TableConstants.MemberRef;
+		MetadataTables tables = delta.getTables();
+		for(int row = 0; row < tables.getRowCount(table); row++)
 		{
-			long coded = row[i].getCodedIndex("Implementation");
-			String name = row[i].getString("Name");
-			long flags = row[i].getConstant("Flags").longValue();
-
-			if(coded == 0)
-			{
-				// LocalManifestResource
-				long RVA = pe_module.cliHeader.Resources.VirtualAddress;
-				long fp = in.getFilePointer(RVA);
-				fp += row[i].getConstant("Offset").longValue();
-				in.seek(fp);
-				long size = in.readDWORD();
-				byte[] data = new byte[(int) size];
-				in.read(data);
-				mresources[i] = new LocalManifestResource(name, flags, data);
-			}
-			else
+			int rid = TableConstants.ridOf(delta.getToken(table, row));
+			if(memberRefs == null || rid > memberRefs.length)
 			{
-				long token[] = tc.parseCodedIndex(coded, TableConstants.Implementation);
-				if(token[0] == TableConstants.File)
-				{
-					// FileManifestResource
-					mresources[i] = new FileManifestResource(fileReferences[(int) token[1] - 1], flags);
-				}
-				else if(token[0] == TableConstants.AssemblyRef)
-				{
-					// AssemblyManifestResource
-					AssemblyManifestResource res = new AssemblyManifestResource(name, flags, assemblyRefs[(int) token[1] - 1]);
-					mresources[i] = res;
-				}
+				memberRefs = ensureLength(memberRefs, rid, MemberRef[]::new);
+				memberRefs[rid - 1] = buildMemberRef(tables, row);
 			}
 		}
 	}
 
-	private void buildExportedTypes()
+	private void applyStandAloneSigs(MetadataDelta delta)
 	{
-		// build ExportedTypes (after File) DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.ExportedType);
-		if(row == null)
-		{
-			return;
-		}
-
-		exportedTypes = new ExportedTypeRef[row.length];
-		for(int i = 0; i < row.length; i++)
+		final int table = TableConstants.StandAloneSig;
+		MetadataTables tables = delta.getTables();
+		for(int row = 0; row < tables.getRowCount(table); row++)
 		{
-			String ns = row[i].getString("TypeNamespace");
-			String name = row[i].getString("TypeName");
-			long flags = row[i].getConstant("Flags").longValue();
-
-			exportedTypes[i] = new ExportedTypeRef(ns, name, flags);
-			if(assemblyInfo != null)
+			int rid = TableConstants.ridOf(delta.getToken(table, row));
+			if(standAloneSigs == null || rid > standAloneSigs.length)
 			{
-				assemblyInfo.addExportedType(exportedTypes[i]);
+				standAloneSigs = ensureLength(standAloneSigs, rid, StandAloneSignature[]::new);
+				standAloneSigs[rid - 1] = buildStandAloneSignature(tables, row);
 			}
 		}
-		for(int i = 0; i < row.length; i++)
+	}
+
+	private void applyLog(MetadataDelta delta)
+	{
+		// an Add* entry names the owner, the entry after it is the added row
+		long owner = 0;
+		int operation = MetadataDelta.FUNC_DEFAULT;
+		for(int i = 0; i < delta.getLogCount(); i++)
 		{
-			long coded = row[i].getCodedIndex("Implementation");
-			long[] token = tc.parseCodedIndex(coded, TableConstants.Implementation);
-			if(token[0] == TableConstants.ExportedType)
+			long token = delta.getLogToken(i);
+			int logOperation = delta.getLogOperation(i);
+			if(logOperation != MetadataDelta.FUNC_DEFAULT)
 			{
-				exportedTypes[i].setExportedTypeRef(getByLongIndex(exportedTypes, token[1]));
+				owner = token;
+				operation = logOperation;
+				continue;
+			}
+
+			int rid = TableConstants.ridOf(token);
+			switch(operation)
+			{
+				case MetadataDelta.FUNC_ADD_METHOD:
+					if(TableConstants.tableOf(token) == TableConstants.Method)
+					{
+						typeDefs[TableConstants.ridOf(owner) - 1].addMethod(methods[rid - 1]);
+					}
+					break;
+				case MetadataDelta.FUNC_ADD_FIELD:
+					if(TableConstants.tableOf(token) == TableConstants.Field)
+					{
+						typeDefs[TableConstants.ridOf(owner) - 1].addField(fields[rid - 1]);
+					}
+					break;
+				case MetadataDelta.FUNC_ADD_PARAMETER:
+					if(TableConstants.tableOf(token) == TableConstants.Param)
+					{
+						MethodDef method = methods[TableConstants.ridOf(owner) - 1];
+						int seq = delta.getTables().getInt(TableConstants.Param, delta.getRow(token), TableColumns.Param.SEQUENCE);
+						if(seq == 0)
+						{
+							method.setReturnParameterInfo(params[rid - 1]);
+						}
+						else
+						{
+							method.setParameterInfo(seq - 1, params[rid - 1]);
+						}
+					}
+					break;
+			}
+			operation = MetadataDelta.FUNC_DEFAULT;
+		}
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	//////////////////////////////////////////////////////////////////
+	// lazy mode
+
+	/**
+	 * Owners built while loading a type in lazy mode, which get their custom attributes once the whole type is built
+	 * (an attribute constructor can be a method of the very same type)
+	 */
+	private static class PendingAttributes
+	{
+		CustomAttributeOwner[] owners = new CustomAttributeOwner[16];
+		long[] tokens = new long[16];
+		int size;
+
+		void add(@Nullable CustomAttributeOwner owner, long token)
+		{
+			if(size == owners.length)
+			{
+				owners = Arrays.copyOf(owners, size * 2);
+				tokens = Arrays.copyOf(tokens, size * 2);
+			}
+			owners[size] = owner;
+			tokens[size++] = token;
+		}
+	}
+
+	/**
+	 * Allocates the member arrays, which are filled type by type (see loadMembers), and builds the rest:
+	 * the custom attributes of the assembly, module and references, and the entry point
+	 */
+	private void prepareLazyMembers()
+	{
+		fields = newRowArray(TableConstants.Field, Field[]::new);
+		methods = newRowArray(TableConstants.Method, MethodDef[]::new);
+		params = newRowArray(TableConstants.Param, ParameterInfo[]::new);
+		properties = newRowArray(TableConstants.Property, Property[]::new);
+		events = newRowArray(TableConstants.Event, Event[]::new);
+		interfaceImpls = newRowArray(TableConstants.InterfaceImpl, InterfaceImplementation[]::new);
+		declSecurities = newRowArray(TableConstants.DeclSecurity, DeclSecurity[]::new);
+		memberRefs = newRowArray(TableConstants.MemberRef, MemberRef[]::new);
+		standAloneSigs = newRowArray(TableConstants.StandAloneSig, StandAloneSignature[]::new);
+		myGenericParams = newRowArray(TableConstants.GenericParam, GenericParamDef[]::new);
+		myGenericParamConstraints = newRowArray(TableConstants.GenericParamConstraint, GenericParamConstraintDef[]::new);
+
+		myLoadedTypes = new boolean[typeDefs == null ? 0 : typeDefs.length];
+		myPropertyMapRows = mapRowsByParent(TableConstants.PropertyMap, TableColumns.PropertyMap.PARENT);
+		myEventMapRows = mapRowsByParent(TableConstants.EventMap, TableColumns.EventMap.PARENT);
+		for(int i = 0; i < myLoadedTypes.length; i++)
+		{
+			final int row = i;
+			typeDefs[i].setMembersLoader(() -> loadMembers(row));
+		}
+
+		PendingAttributes pending = new PendingAttributes();
+		if(assemblyInfo != null)
+		{
+			for(int row : myTables.findRows(TableConstants.DeclSecurity, TableColumns.DeclSecurity.PARENT, TableConstants.HasDeclSecurity, TableConstants.token(TableConstants.Assembly, 1)))
+			{
+				declSecurities[row] = buildDeclSecurity(row);
+				assemblyInfo.setDeclSecurity(declSecurities[row]);
+				pending.add(declSecurities[row], TableConstants.token(TableConstants.DeclSecurity, row + 1));
+			}
+		}
+
+		final int table = TableConstants.CustomAttribute;
+		int count = myTables.getRowCount(table);
+		for(int i = 0; i < count; i++)
+		{
+			long token = TableConstants.decodeCodedIndex(myTables.getInt(table, i, TableColumns.CustomAttribute.PARENT), TableConstants.HasCustomAttribute);
+			if((LAZY_ATTRIBUTE_OWNERS & (1L << TableConstants.tableOf(token))) != 0)
+			{
+				continue;
+			}
+
+			CustomAttributeOwner owner = getCustomAttributeOwner(token);
+			if(owner != null)
+			{
+				owner.addCustomAttribute(buildCustomAttribute(i));
+			}
+			else
+			{
+				LOG.warn("Unsupported parent type: " + Integer.toHexString(TableConstants.tableOf(token)));
+			}
+		}
+		attachCustomAttributes(pending);
+
+		buildEntryPoint();
+	}
+
+	/**
+	 * Builds the members of the TypeDef of the given row and everything hanging off them.
+	 * Runs once per type, the calls made by the building thread while the type is being built return at once.
+	 */
+	private synchronized void loadMembers(int typeRow)
+	{
+		if(myLoadedTypes[typeRow])
+		{
+			return;
+		}
+		myLoadedTypes[typeRow] = true;
+
+		TypeDef def = typeDefs[typeRow];
+		long typeToken = TableConstants.token(TableConstants.TypeDef, typeRow + 1);
+		PendingAttributes pending = new PendingAttributes();
+		pending.add(def, typeToken);
+
+		for(int row : myTables.findRows(TableConstants.InterfaceImpl, TableColumns.InterfaceImpl.CLASS, typeRow + 1))
+		{
+			interfaceImpls[row] = buildInterfaceImpl(row);
+			def.addInterface(interfaceImpls[row]);
+			pending.add(interfaceImpls[row], TableConstants.token(TableConstants.InterfaceImpl, row + 1));
+		}
+
+		// the members are built into the module-wide arrays, which the lists of the type are views of
+		int fieldCount = myTables.getRowCount(TableConstants.Field);
+		int start = listStart(TableConstants.TypeDef, TableColumns.TypeDef.FIELD_LIST, typeRow, fieldCount);
+		int end = listEnd(TableConstants.TypeDef, TableColumns.TypeDef.FIELD_LIST, typeRow, fieldCount);
+		for(int rid = start; rid < end; rid++)
+		{
+			buildLazyField(rid - 1, pending);
+		}
+		def.setFieldRange(fields, start - 1, end - 1);
+
+		int methodCount = myTables.getRowCount(TableConstants.Method);
+		start = listStart(TableConstants.TypeDef, TableColumns.TypeDef.METHOD_LIST, typeRow, methodCount);
+		end = listEnd(TableConstants.TypeDef, TableColumns.TypeDef.METHOD_LIST, typeRow, methodCount);
+		for(int rid = start; rid < end; rid++)
+		{
+			buildLazyMethod(rid - 1, pending);
+		}
+		def.setMethodRange(methods, start - 1, end - 1);
+
+		int propertyCount = myTables.getRowCount(TableConstants.Property);
+		for(int map : mapRowsOf(myPropertyMapRows, TableConstants.PropertyMap, TableColumns.PropertyMap.PARENT, typeRow))
+		{
+			start = listStart(TableConstants.PropertyMap, TableColumns.PropertyMap.PROPERTY_LIST, map, propertyCount);
+			end = listEnd(TableConstants.PropertyMap, TableColumns.PropertyMap.PROPERTY_LIST, map, propertyCount);
+			for(int rid = start; rid < end; rid++)
+			{
+				long token = TableConstants.token(TableConstants.Property, rid);
+				properties[rid - 1] = buildProperty(rid - 1);
+				int constant = myTables.constantOf(token);
+				if(constant != -1)
+				{
+					properties[rid - 1].setDefaultValue(myTables.getBlob(TableConstants.Constant, constant, TableColumns.Constant.VALUE));
+				}
+				for(int semantics : myTables.findRows(TableConstants.MethodSemantics, TableColumns.MethodSemantics.ASSOCIATION, TableConstants.HasSemantics, token))
+				{
+					setMethodSemantics(semantics);
+				}
+				pending.add(properties[rid - 1], token);
+			}
+			def.setPropertyRange(properties, start - 1, end - 1);
+		}
+
+		int eventCount = myTables.getRowCount(TableConstants.Event);
+		for(int map : mapRowsOf(myEventMapRows, TableConstants.EventMap, TableColumns.EventMap.PARENT, typeRow))
+		{
+			start = listStart(TableConstants.EventMap, TableColumns.EventMap.EVENT_LIST, map, eventCount);
+			end = listEnd(TableConstants.EventMap, TableColumns.EventMap.EVENT_LIST, map, eventCount);
+			for(int rid = start; rid < end; rid++)
+			{
+				long token = TableConstants.token(TableConstants.Event, rid);
+				events[rid - 1] = buildEvent(rid - 1);
+				for(int semantics : myTables.findRows(TableConstants.MethodSemantics, TableColumns.MethodSemantics.ASSOCIATION, TableConstants.HasSemantics, token))
+				{
+					setMethodSemantics(semantics);
+				}
+				pending.add(events[rid - 1], token);
+			}
+			def.setEventRange(events, start - 1, end - 1);
+		}
+
+		for(int row : myTables.findRows(TableConstants.MethodImpl, TableColumns.MethodImpl.CLASS, typeRow + 1))
+		{
+			def.addMethodMap(buildMethodMap(row));
+		}
+
+		for(int row : myTables.findRows(TableConstants.ClassLayout, TableColumns.ClassLayout.PARENT, typeRow + 1))
+		{
+			int pSize = myTables.getInt(TableConstants.ClassLayout, row, TableColumns.ClassLayout.PACKING_SIZE);
+			long cSize = myTables.getLong(TableConstants.ClassLayout, row, TableColumns.ClassLayout.CLASS_SIZE);
+			def.setClassLayout(new ClassLayout(pSize, cSize));
+		}
+
+		for(int row : myTables.findRows(TableConstants.DeclSecurity, TableColumns.DeclSecurity.PARENT, TableConstants.HasDeclSecurity, typeToken))
+		{
+			declSecurities[row] = buildDeclSecurity(row);
+			def.setDeclSecurity(declSecurities[row]);
+			pending.add(declSecurities[row], TableConstants.token(TableConstants.DeclSecurity, row + 1));
+		}
+
+		addGenericParams(def, typeToken, pending);
+
+		attachCustomAttributes(pending);
+		def.setMembersLoader(null);
+	}
+
+	private Field buildLazyField(int row, @Nonnull PendingAttributes pending)
+	{
+		long token = TableConstants.token(TableConstants.Field, row + 1);
+		Field field = buildField(row);
+		fields[row] = field;
+
+		for(int layout : myTables.findRows(TableConstants.FieldLayout, TableColumns.FieldLayout.FIELD, row + 1))
+		{
+			field.setOffset(myTables.getLong(TableConstants.FieldLayout, layout, TableColumns.FieldLayout.OFFSET));
+		}
+		for(int rva : myTables.findRows(TableConstants.FieldRVA, TableColumns.FieldRVA.FIELD, row + 1))
+		{
+			field.setFieldRVA(myTables.getLong(TableConstants.FieldRVA, rva, TableColumns.FieldRVA.RVA));
+		}
+		MarshalSignature marshal = getFieldMarshal(token);
+		if(marshal != null)
+		{
+			field.setFieldMarshal(marshal);
+		}
+		int constant = myTables.constantOf(token);
+		if(constant != -1)
+		{
+			field.setDefaultValue(myTables.getBlob(TableConstants.Constant, constant, TableColumns.Constant.VALUE));
+		}
+
+		pending.add(field, token);
+		return field;
+	}
+
+	private MethodDef buildLazyMethod(int row, @Nonnull PendingAttributes pending)
+	{
+		long token = TableConstants.token(TableConstants.Method, row + 1);
+		MethodDef method = buildMethod(row);
+		methods[row] = method;
+		pending.add(method, token);
+
+		int paramCount = myTables.getRowCount(TableConstants.Param);
+		int end = listEnd(TableConstants.Method, TableColumns.Method.PARAM_LIST, row, paramCount);
+		for(int rid = listStart(TableConstants.Method, TableColumns.Method.PARAM_LIST, row, paramCount); rid < end; rid++)
+		{
+			long paramToken = TableConstants.token(TableConstants.Param, rid);
+			ParameterInfo param = buildParam(method, rid - 1);
+			MarshalSignature marshal = getFieldMarshal(paramToken);
+			if(marshal != null)
+			{
+				param.setFieldMarshal(marshal);
+			}
+			int constant = myTables.constantOf(paramToken);
+			if(constant != -1)
+			{
+				param.setDefaultValue(myTables.getBlob(TableConstants.Constant, constant, TableColumns.Constant.VALUE));
+			}
+			pending.add(param, paramToken);
+		}
+
+		for(int implMap : myTables.findRows(TableConstants.ImplMap, TableColumns.ImplMap.MEMBER_FORWARDED, TableConstants.MemberForwarded, token))
+		{
+			method.setImplementationMap(buildImplementationMap(implMap));
+		}
+		for(int security : myTables.findRows(TableConstants.DeclSecurity, TableColumns.DeclSecurity.PARENT, TableConstants.HasDeclSecurity, token))
+		{
+			declSecurities[security] = buildDeclSecurity(security);
+			method.setDeclSecurity(declSecurities[security]);
+			pending.add(declSecurities[security], TableConstants.token(TableConstants.DeclSecurity, security + 1));
+		}
+		addGenericParams(method, token, pending);
+		return method;
+	}
+
+	private void addGenericParams(@Nonnull GenericParamOwner owner, long ownerToken, @Nonnull PendingAttributes pending)
+	{
+		for(int row : myTables.findRows(TableConstants.GenericParam, TableColumns.GenericParam.PARENT, TableConstants.TypeOrMethodDef, ownerToken))
+		{
+			GenericParamDef param = buildGenericParam(row);
+			owner.addGenericParam(param);
+			pending.add(param, TableConstants.token(TableConstants.GenericParam, row + 1));
+
+			for(int constraint : myTables.findRows(TableConstants.GenericParamConstraint, TableColumns.GenericParamConstraint.PARENT, row + 1))
+			{
+				pending.add(buildGenericParamConstraint(constraint), TableConstants.token(TableConstants.GenericParamConstraint, constraint + 1));
+			}
+		}
+	}
+
+	@Nullable
+	private MarshalSignature getFieldMarshal(long token)
+	{
+		MarshalSignature sig = null;
+		for(int row : myTables.findRows(TableConstants.FieldMarshal, TableColumns.FieldMarshal.PARENT, TableConstants.HasFieldMarshal, token))
+		{
+			sig = MarshalSignature.parse(myTables.getBlobReader(TableConstants.FieldMarshal, row, TableColumns.FieldMarshal.NATIVE_TYPE));
+		}
+		return sig;
+	}
+
+	private void attachCustomAttributes(@Nonnull PendingAttributes pending)
+	{
+		for(int i = 0; i < pending.size; i++)
+		{
+			if(pending.owners[i] != null)
+			{
+				addCustomAttributes(pending.owners[i], pending.tokens[i]);
+			}
+		}
+	}
+
+	private void addCustomAttributes(@Nonnull CustomAttributeOwner owner, long token)
+	{
+		for(int row : myTables.customAttributesOf(token))
+		{
+			owner.addCustomAttribute(buildCustomAttribute(row));
+		}
+	}
+
+	/**
+	 * Returns the first RID of the member list (i.e. TypeDef.MethodList) of the given row, past the end if the list is empty
+	 */
+	private int listStart(int table, int listColumn, int row, int memberCount)
+	{
+		int start = myTables.getInt(table, row, listColumn);
+		return start == 0 || start > memberCount ? memberCount + 1 : start;
+	}
+
+	/**
+	 * Returns the RID after the last one of the member list of the given row: the list runs up to the list of the next row
+	 */
+	private int listEnd(int table, int listColumn, int row, int memberCount)
+	{
+		if(row < myTables.getRowCount(table) - 1)
+		{
+			return Math.min(memberCount + 1, myTables.getInt(table, row + 1, listColumn));
+		}
+		return memberCount + 1;
+	}
+
+	/**
+	 * Returns the row of the map table (PropertyMap or EventMap) by TypeDef row: -1 if the type has no map row,
+	 * -2 if it has several (invalid metadata). The map tables are not sorted, so they are read once instead of scanned per type.
+	 */
+	@Nonnull
+	private int[] mapRowsByParent(int table, int parentColumn)
+	{
+		int[] rows = new int[myLoadedTypes.length];
+		Arrays.fill(rows, -1);
+		for(int row = 0, count = myTables.getRowCount(table); row < count; row++)
+		{
+			int typeRow = myTables.getInt(table, row, parentColumn) - 1;
+			if(typeRow >= 0 && typeRow < rows.length)
+			{
+				rows[typeRow] = rows[typeRow] == -1 ? row : -2;
+			}
+		}
+		return rows;
+	}
+
+	@Nonnull
+	private int[] mapRowsOf(@Nonnull int[] mapRows, int table, int parentColumn, int typeRow)
+	{
+		int row = mapRows[typeRow];
+		if(row == -2)
+		{
+			return myTables.findRows(table, parentColumn, typeRow + 1);
+		}
+		return row == -1 ? EMPTY_INT_ARRAY : new int[]{row};
+	}
+
+	@Nullable
+	private <T> T[] newRowArray(int table, @Nonnull IntFunction<T[]> factory)
+	{
+		int count = myTables.getRowCount(table);
+		return count == 0 ? null : factory.apply(count);
+	}
+
+	// in lazy mode the accessors below build the declaring type of the member first
+
+	private MethodDef methodAt(int row)
+	{
+		return myLoadedTypes == null ? methods[row] : loadMethod(row);
+	}
+
+	private synchronized MethodDef loadMethod(int row)
+	{
+		if(methods[row] == null)
+		{
+			int owner = myTables.upperBound(TableConstants.TypeDef, TableColumns.TypeDef.METHOD_LIST, row + 1) - 1;
+			if(owner != -1)
+			{
+				loadMembers(owner);
+			}
+		}
+		if(methods[row] == null)
+		{
+			// not in the method list of any type
+			PendingAttributes pending = new PendingAttributes();
+			buildLazyMethod(row, pending);
+			attachCustomAttributes(pending);
+		}
+		return methods[row];
+	}
+
+	private Field fieldAt(int row)
+	{
+		return myLoadedTypes == null ? fields[row] : loadField(row);
+	}
+
+	private synchronized Field loadField(int row)
+	{
+		if(fields[row] == null)
+		{
+			int owner = myTables.upperBound(TableConstants.TypeDef, TableColumns.TypeDef.FIELD_LIST, row + 1) - 1;
+			if(owner != -1)
+			{
+				loadMembers(owner);
+			}
+		}
+		if(fields[row] == null)
+		{
+			// not in the field list of any type
+			PendingAttributes pending = new PendingAttributes();
+			buildLazyField(row, pending);
+			attachCustomAttributes(pending);
+		}
+		return fields[row];
+	}
+
+	private MemberRef memberRefAt(int row)
+	{
+		return myLoadedTypes == null ? memberRefs[row] : loadMemberRef(row);
+	}
+
+	private synchronized MemberRef loadMemberRef(int row)
+	{
+		if(memberRefs[row] == null)
+		{
+			memberRefs[row] = buildMemberRef(myTables, row);
+			if(memberRefs[row] != null)
+			{
+				addCustomAttributes(memberRefs[row], TableConstants.token(TableConstants.MemberRef, row + 1));
+			}
+		}
+		return memberRefs[row];
+	}
+
+	private StandAloneSignature standAloneSigAt(int row)
+	{
+		return myLoadedTypes == null ? standAloneSigs[row] : loadStandAloneSig(row);
+	}
+
+	private synchronized StandAloneSignature loadStandAloneSig(int row)
+	{
+		if(standAloneSigs[row] == null)
+		{
+			standAloneSigs[row] = buildStandAloneSignature(myTables, row);
+			if(standAloneSigs[row] != null)
+			{
+				addCustomAttributes(standAloneSigs[row], TableConstants.token(TableConstants.StandAloneSig, row + 1));
+			}
+		}
+		return standAloneSigs[row];
+	}
+
+	//////////////////////////////////////////////////////////////////
+
+	private long getMethod(long token)
+	{
+		// maps tokens through MethodPtrs, if necessary
+		return mapPointer(TableConstants.MethodPtr, TableColumns.MethodPtr.METHOD, token);
+	}
+
+	private long getField(long token)
+	{
+		return mapPointer(TableConstants.FieldPtr, TableColumns.FieldPtr.FIELD, token);
+	}
+
+	private long getEvent(long token)
+	{
+		return mapPointer(TableConstants.EventPtr, TableColumns.EventPtr.EVENT, token);
+	}
+
+	private long getParam(long token)
+	{
+		return mapPointer(TableConstants.ParamPtr, TableColumns.ParamPtr.PARAM, token);
+	}
+
+	private long getProperty(long token)
+	{
+		return mapPointer(TableConstants.PropertyPtr, TableColumns.PropertyPtr.PROPERTY, token);
+	}
+
+	private long mapPointer(int pointerTable, int column, long token)
+	{
+		// deltas applied after the parse index the rows directly
+		if(myTables == null || myTables.isEmpty(pointerTable))
+		{
+			return token;
+		}
+		return myTables.getInt(pointerTable, (int) token - 1, column);
+	}
+
+	//////////////////////////////////////////////////////////////////
+
+	private void buildAssemblyInfo()
+	{
+		// build Assembly table (after Module) DONE!
+		final int table = TableConstants.Assembly;
+		if(myTables.isEmpty(table))
+		{
+			return;
+		}
+
+		long hash = myTables.getLong(table, 0, TableColumns.Assembly.HASH_ALG_ID);
+		int maj = myTables.getInt(table, 0, TableColumns.Assembly.MAJOR_VERSION);
+		int min = myTables.getInt(table, 0, TableColumns.Assembly.MINOR_VERSION);
+		int bn = myTables.getInt(table, 0, TableColumns.Assembly.BUILD_NUMBER);
+		int rn = myTables.getInt(table, 0, TableColumns.Assembly.REVISION_NUMBER);
+		String name = myTables.getString(table, 0, TableColumns.Assembly.NAME);
+		String culture = myTables.getString(table, 0, TableColumns.Assembly.CULTURE);
+		byte[] publicKey = myTables.getBlob(table, 0, TableColumns.Assembly.PUBLIC_KEY);
+		long flags = myTables.getLong(table, 0, TableColumns.Assembly.FLAGS);
+
+		assemblyInfo = new AssemblyInfo(hash, maj, min, bn, rn, flags, publicKey, name, culture);
+	}
+
+	private void buildAssemblyRefs()
+	{
+		// build AssemblyRef table DONE!
+		final int table = TableConstants.AssemblyRef;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
+		{
+			return;
+		}
+
+		assemblyRefs = new AssemblyRefInfo[count];
+		for(int i = 0; i < count; i++)
+		{
+			assemblyRefs[i] = buildAssemblyRef(myTables, i);
+		}
+	}
+
+	private AssemblyRefInfo buildAssemblyRef(@Nonnull MetadataTables tables, int row)
+	{
+		final int table = TableConstants.AssemblyRef;
+		int Maj = tables.getInt(table, row, TableColumns.AssemblyRef.MAJOR_VERSION);
+		int Min = tables.getInt(table, row, TableColumns.AssemblyRef.MINOR_VERSION);
+		int BN = tables.getInt(table, row, TableColumns.AssemblyRef.BUILD_NUMBER);
+		int RN = tables.getInt(table, row, TableColumns.AssemblyRef.REVISION_NUMBER);
+		long flags = tables.getLong(table, row, TableColumns.AssemblyRef.FLAGS);
+		byte[] pb = tables.getBlob(table, row, TableColumns.AssemblyRef.PUBLIC_KEY_OR_TOKEN);
+		String name = tables.getString(table, row, TableColumns.AssemblyRef.NAME);
+		String cult = tables.getString(table, row, TableColumns.AssemblyRef.CULTURE);
+		byte[] hash = tables.getBlob(table, row, TableColumns.AssemblyRef.HASH_VALUE);
+
+		return new AssemblyRefInfo(Maj, Min, BN, RN, flags, pb, name, cult, hash);
+	}
+
+	private void buildModule()
+	{
+		// build Module (after Assembly) DONE!
+		final int table = TableConstants.Module;
+		if(myTables.isEmpty(table))
+		{
+			return;
+		}
+
+		int generation = myTables.getInt(table, 0, TableColumns.Module.GENERATION);
+		byte[] mvid = myTables.getGUID(table, 0, TableColumns.Module.MVID);
+		byte[] encid = myTables.getGUID(table, 0, TableColumns.Module.ENC_ID);
+		byte[] encbaseid = myTables.getGUID(table, 0, TableColumns.Module.ENC_BASE_ID);
+
+		Generation = generation;
+		Mvid = mvid;
+		EncID = encid;
+		EncBaseID = encbaseid;
+	}
+
+	private void buildModuleRefs()
+	{
+		// build ModuleRef tables DONE!
+		final int table = TableConstants.ModuleRef;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
+		{
+			return;
+		}
+
+		moduleRefs = new ModuleRefInfo[count];
+		for(int i = 0; i < count; i++)
+		{
+			String modName = myTables.getString(table, i, TableColumns.ModuleRef.NAME);
+			moduleRefs[i] = new ModuleRefInfo(modName);
+		}
+	}
+
+	private void buildEntryPoint()
+	{
+		// build Entrypoint (after Module)
+		long entrytoken = pe_module.cliHeader.EntryPointToken;
+		int type = TableConstants.tableOf(entrytoken);
+		int tokrow = TableConstants.ridOf(entrytoken);
+
+		if(type == TableConstants.Method)
+		{
+			entryPoint = new EntryPoint(methodAt((int) getMethod(tokrow) - 1));
+		}
+		else if(type == TableConstants.File)
+		{
+			entryPoint = new EntryPoint(fileReferences[tokrow - 1]);
+		}
+	}
+
+	private void buildFileReferences()
+	{
+		// build Files DONE!
+		final int table = TableConstants.File;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
+		{
+			return;
+		}
+
+		fileReferences = new FileReference[count];
+		for(int i = 0; i < count; i++)
+		{
+			long flags = myTables.getLong(table, i, TableColumns.File.FLAGS);
+			String name = myTables.getString(table, i, TableColumns.File.NAME);
+			byte[] hashValue = myTables.getBlob(table, i, TableColumns.File.HASH_VALUE);
+
+			fileReferences[i] = new FileReference(flags, name, hashValue);
+		}
+	}
+
+	private void buildManifestResources() throws IOException
+	{
+		// build ManifestResources (after FileReferences) DONE!
+		final int table = TableConstants.ManifestResource;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
+		{
+			return;
+		}
+
+		mresources = new ManifestResource[count];
+		for(int i = 0; i < count; i++)
+		{
+			long coded = myTables.getInt(table, i, TableColumns.ManifestResource.IMPLEMENTATION);
+			String name = myTables.getString(table, i, TableColumns.ManifestResource.NAME);
+			long flags = myTables.getLong(table, i, TableColumns.ManifestResource.FLAGS);
+
+			if(coded == 0)
+			{
+				// LocalManifestResource
+				long RVA = pe_module.cliHeader.Resources.VirtualAddress;
+				long fp = in.getFilePointer(RVA);
+				fp += myTables.getLong(table, i, TableColumns.ManifestResource.OFFSET);
+				in.seek(fp);
+				long size = in.readDWORD();
+				byte[] data = new byte[(int) size];
+				in.read(data);
+				mresources[i] = new LocalManifestResource(name, flags, data);
+			}
+			else
+			{
+				long token = TableConstants.decodeCodedIndex(coded, TableConstants.Implementation);
+				if(TableConstants.tableOf(token) == TableConstants.File)
+				{
+					// FileManifestResource
+					mresources[i] = new FileManifestResource(fileReferences[TableConstants.ridOf(token) - 1], flags);
+				}
+				else if(TableConstants.tableOf(token) == TableConstants.AssemblyRef)
+				{
+					// AssemblyManifestResource
+					AssemblyManifestResource res = new AssemblyManifestResource(name, flags, assemblyRefs[TableConstants.ridOf(token) - 1]);
+					mresources[i] = res;
+				}
 			}
-			else if(token[0] == TableConstants.File)
+		}
+	}
+
+	private void buildExportedTypes()
+	{
+		// build ExportedTypes (after File) DONE!
+		final int table = TableConstants.ExportedType;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
+		{
+			return;
+		}
+
+		exportedTypes = new ExportedTypeRef[count];
+		for(int i = 0; i < count; i++)
+		{
+			String ns = myTables.getString(table, i, TableColumns.ExportedType.TYPE_NAMESPACE);
+			String name = myTables.getString(table, i, TableColumns.ExportedType.TYPE_NAME);
+			long flags = myTables.getLong(table, i, TableColumns.ExportedType.FLAGS);
+
+			exportedTypes[i] = new ExportedTypeRef(ns, name, flags);
+			if(assemblyInfo != null)
+			{
+				assemblyInfo.addExportedType(exportedTypes[i]);
+			}
+		}
+		for(int i = 0; i < count; i++)
+		{
+			long coded = myTables.getInt(table, i, TableColumns.ExportedType.IMPLEMENTATION);
+			long token = TableConstants.decodeCodedIndex(coded, TableConstants.Implementation);
+			if(TableConstants.tableOf(token) == TableConstants.ExportedType)
+			{
+				exportedTypes[i].setExportedTypeRef(getByLongIndex(exportedTypes, TableConstants.ridOf(token)));
+			}
+			else if(TableConstants.tableOf(token) == TableConstants.File)
 			{
-				exportedTypes[i].setFileReference(getByLongIndex(fileReferences, token[1]));
+				exportedTypes[i].setFileReference(getByLongIndex(fileReferences, TableConstants.ridOf(token)));
 			}
-			else if(token[0] == TableConstants.AssemblyRef)
+			else if(TableConstants.tableOf(token) == TableConstants.AssemblyRef)
 			{
-				exportedTypes[i].setAssemblyRefInfo(getByLongIndex(assemblyRefs, token[1]));
+				exportedTypes[i].setAssemblyRefInfo(getByLongIndex(assemblyRefs, TableConstants.ridOf(token)));
 			}
 			else
 			{
@@ -602,195 +1597,354 @@ public class ModuleParser extends BaseCustomAttributeOwner
 		}
 	}
 
-	private void buildFields()
+	/**
+	 * Parses the signature blob at the given #Blob offset, or returns the signature already parsed from it.
+	 * Compilers emit one blob per distinct signature, so members with equal signatures get the same instance:
+	 * the result must be treated as immutable.
+	 */
+	private <S extends Signature> S parseSignature(long blobOffset, @Nonnull Class<S> kind, @Nonnull BiFunction<BlobReader, TypeGroup, S> parser)
+	{
+		Signature cached = mySignatures.get((int) blobOffset);
+		if(kind.isInstance(cached))
+		{
+			return kind.cast(cached);
+		}
+
+		S signature = parser.apply(tc.getBlobReader(blobOffset), group);
+		if(signature != null)
+		{
+			mySignatures.put((int) blobOffset, signature);
+		}
+		return signature;
+	}
+
+	/**
+	 * Decodes the signature blobs of a member table on the pool (if there is one and the table is large) and adds them
+	 * to the shared signatures, so the build loop of the table finds every signature already parsed.
+	 * Row ranges are decoded in parallel and merged in row order afterwards: a blob keeps the instance decoded for its first row
+	 * and kinds replace each other the same way as in parseSignature, so the module does not depend on scheduling.
+	 *
+	 * @param decoder decodes the signature of a row without the shared cache, it must only read the tables, heaps and the TypeGroup
+	 */
+	private void prepareSignatures(int table, int column, @Nonnull IntFunction<Signature> decoder) throws IOException
+	{
+		int count = myTables.getRowCount(table);
+		if(myPool == null || count < PARALLEL_SIGNATURE_CHUNK * 2)
+		{
+			return;
+		}
+
+		Signature[] decoded = new Signature[count];
+		forEachRange(count, (from, to) ->
+		{
+			// the same blob is mostly repeated within a range, so it is decoded once per range
+			IntObjectMap<Signature> local = new IntObjectMap<>();
+			for(int row = from; row < to; row++)
+			{
+				int blobOffset = myTables.getInt(table, row, column);
+				Signature signature = local.get(blobOffset);
+				if(signature == null)
+				{
+					signature = decoder.apply(row);
+					if(signature != null)
+					{
+						local.put(blobOffset, signature);
+					}
+				}
+				decoded[row] = signature;
+			}
+		});
+
+		for(int row = 0; row < count; row++)
+		{
+			Signature signature = decoded[row];
+			if(signature == null)
+			{
+				continue;
+			}
+			int blobOffset = myTables.getInt(table, row, column);
+			Signature cached = mySignatures.get(blobOffset);
+			if(cached == null || cached.getClass() != signature.getClass())
+			{
+				mySignatures.put(blobOffset, signature);
+			}
+		}
+	}
+
+	/**
+	 * Runs the task over [0, count) split into ranges of PARALLEL_SIGNATURE_CHUNK rows, on the pool if there is one.
+	 * Every range must only write its own rows.
+	 */
+	private void forEachRange(int count, @Nonnull RowRangeTask task) throws IOException
+	{
+		if(myPool == null || count < PARALLEL_SIGNATURE_CHUNK * 2)
+		{
+			task.run(0, count);
+			return;
+		}
+
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for(int from = 0; from < count; from += PARALLEL_SIGNATURE_CHUNK)
+		{
+			final int fromRow = from, toRow = Math.min(count, from + PARALLEL_SIGNATURE_CHUNK);
+			tasks.add(() ->
+			{
+				task.run(fromRow, toRow);
+				return null;
+			});
+		}
+
+		for(Future<Void> future : myPool.invokeAll(tasks))
+		{
+			try
+			{
+				future.get();
+			}
+			catch(InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				throw new IOException("ModuleParser: Interrupted while decoding signatures", e);
+			}
+			catch(ExecutionException e)
+			{
+				Throwable cause = e.getCause();
+				if(cause instanceof RuntimeException)
+				{
+					throw (RuntimeException) cause;
+				}
+				throw new IOException("ModuleParser: Failed to decode signatures", cause);
+			}
+		}
+	}
+
+	private interface RowRangeTask
+	{
+		void run(int from, int to);
+	}
+
+	private void buildFields() throws IOException
 	{
 		// build Fields (after TypeGroup) DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.Field);
-		if(row == null)
+		final int table = TableConstants.Field;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		fields = new Field[row.length];
-		for(int i = 0; i < row.length; i++)
+		prepareSignatures(table, TableColumns.Field.SIGNATURE, row -> FieldSignature.parse(myTables.getBlobReader(table, row, TableColumns.Field.SIGNATURE), group));
+		fields = new Field[count];
+		for(int i = 0; i < count; i++)
 		{
-			int Flags = row[i].getConstant("Flags").intValue();
-			String name = row[i].getString("Name");
-			byte[] blob = row[i].getBlob("Signature");
-			FieldSignature sig = FieldSignature.parse(new ByteBuffer(blob),
-					group);
-			fields[i] = new Field(name, sig);
-			fields[i].setFlags(Flags);
+			fields[i] = buildField(i);
 			// does not set parent!
 		}
 	}
 
+	private Field buildField(int row)
+	{
+		final int table = TableConstants.Field;
+		int Flags = myTables.getInt(table, row, TableColumns.Field.FLAGS);
+		String name = myTables.getString(table, row, TableColumns.Field.NAME);
+		FieldSignature sig = parseSignature(myTables.getLong(table, row, TableColumns.Field.SIGNATURE), FieldSignature.class, FieldSignature::parse);
+		Field field = new Field(name, sig);
+		field.setFlags(Flags);
+		return field;
+	}
+
 	private void setFieldLayouts()
 	{
 		// build FieldLayouts (after Fields) DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.FieldLayout);
-		if(row == null)
+		final int table = TableConstants.FieldLayout;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		for(GenericTableValue aRow : row)
+		for(int i = 0; i < count; i++)
 		{
-			long field = getField(aRow.getTableIndex("Field"));
-			long Offset = aRow.getConstant("Offset").longValue();
+			long field = getField(myTables.getInt(table, i, TableColumns.FieldLayout.FIELD));
+			long Offset = myTables.getLong(table, i, TableColumns.FieldLayout.OFFSET);
 			fields[(int) field - 1].setOffset(Offset);
 		}
 	}
 
-	private void buildMethods()
+	private void buildMethods() throws IOException
 	{
 		// build Methods (after Params and TypeGroup)
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.Method);
-		if(row == null)
+		final int table = TableConstants.Method;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		methods = new MethodDef[row.length];
-		for(int i = 0; i < row.length; i++)
+		// only the signatures are decoded in parallel, the methods and their parameters are wired up below in row order
+		prepareSignatures(table, TableColumns.Method.SIGNATURE, row -> MethodSignature.parse(myTables.getBlobReader(table, row, TableColumns.Method.SIGNATURE), group));
+		methods = new MethodDef[count];
+		for(int i = 0; i < count; i++)
 		{
-			long RVA = row[i].getConstant("RVA").longValue();
-			String name = row[i].getString("Name");
-			int implFlags = row[i].getConstant("ImplFlags").intValue();
-			int flags = row[i].getConstant("Flags").intValue();
-			byte[] blob = row[i].getBlob("Signature");
-
-			MethodSignature sig = MethodSignature.parse(new ByteBuffer(blob), group);
-
-			methods[i] = new MethodDef(name, implFlags, flags, sig);
-
-			if((RVA != 0) && (implFlags & MethodDef.CodeTypeMask) == MethodDef.Native)
-			{
-				methods[i].setMethodRVA(RVA);
-			}
+			methods[i] = buildMethod(i);
 		}
 
 		// add params DONE!
-		for(int i = 0; i < row.length; i++)
+		int paramCount = myTables.getRowCount(TableConstants.Param);
+		for(int i = 0; i < count; i++)
 		{
-			List<ParameterSignature> pSigs = methods[i].getSignature().getParameters();
-
-			long startI = row[i].getTableIndex("ParamList");
-			if(!(startI == 0 || myTableValues.get(TableConstants.Param) == null || startI > myTableValues.get(TableConstants.Param).length))
+			long startI = myTables.getInt(table, i, TableColumns.Method.PARAM_LIST);
+			if(!(startI == 0 || paramCount == 0 || startI > paramCount))
 			{
 				// valid start of paramlist
-				long endI = myTableValues.get(TableConstants.Param).length + 1;
-				if(i < row.length - 1)
+				long endI = paramCount + 1;
+				if(i < count - 1)
 				{
-					endI = Math.min(endI, row[i + 1].getTableIndex("ParamList").longValue());
+					endI = Math.min(endI, myTables.getInt(table, i + 1, TableColumns.Method.PARAM_LIST));
 				}
 
 				for(long j = startI; j < endI; j++)
 				{
-					GenericTableValue paramTable = myTableValues.get(TableConstants.Param)[(int) getParam(j) - 1];
-					int flags = paramTable.getConstant("Flags").intValue();
-					int seq = paramTable.getConstant("Sequence").intValue();
-					String name = paramTable.getString("Name");
-					if(seq == 0)
-					{
-						params[(int) getParam(j) - 1] = new ParameterInfo(name, flags);
-						methods[i].getSignature().getReturnType().setParameterInfo(params[(int) getParam(j) - 1]);
-					}
-					else
-					{
-						params[(int) getParam(j) - 1] = new ParameterInfo(name, flags);
-						pSigs.get(seq - 1).setParameterInfo(params[(int) getParam(j) - 1]);
-					}
+					buildParam(methods[i], (int) getParam(j) - 1);
 				}
 			}
 		}
 	}
 
+	private MethodDef buildMethod(int row)
+	{
+		final int table = TableConstants.Method;
+		long RVA = myTables.getLong(table, row, TableColumns.Method.RVA);
+		String name = myTables.getString(table, row, TableColumns.Method.NAME);
+		int implFlags = myTables.getInt(table, row, TableColumns.Method.IMPL_FLAGS);
+		int flags = myTables.getInt(table, row, TableColumns.Method.FLAGS);
+		MethodSignature sig = parseSignature(myTables.getLong(table, row, TableColumns.Method.SIGNATURE), MethodSignature.class, MethodSignature::parse);
+
+		MethodDef method = new MethodDef(name, implFlags, flags, sig);
+
+		if((RVA != 0) && (implFlags & MethodDef.CodeTypeMask) == MethodDef.Native)
+		{
+			method.setMethodRVA(RVA);
+		}
+		return method;
+	}
+
+	private ParameterInfo buildParam(@Nonnull MethodDef method, int paramRow)
+	{
+		int flags = myTables.getInt(TableConstants.Param, paramRow, TableColumns.Param.FLAGS);
+		int seq = myTables.getInt(TableConstants.Param, paramRow, TableColumns.Param.SEQUENCE);
+		String name = myTables.getString(TableConstants.Param, paramRow, TableColumns.Param.NAME);
+
+		params[paramRow] = new ParameterInfo(name, flags);
+		if(seq == 0)
+		{
+			method.setReturnParameterInfo(params[paramRow]);
+		}
+		else
+		{
+			method.setParameterInfo(seq - 1, params[paramRow]);
+		}
+		return params[paramRow];
+	}
+
 	private void setImplMaps()
 	{
 		// build ImplMaps (after Methods) DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.ImplMap);
-		if(row == null)
+		final int table = TableConstants.ImplMap;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		for(GenericTableValue aRow : row)
+		for(int i = 0; i < count; i++)
 		{
-			long coded = aRow.getCodedIndex("MemberForwarded");
-			long token[] = tc.parseCodedIndex(coded, TableConstants.MemberForwarded);
-			if(token[0] != TableConstants.Method)
+			long coded = myTables.getInt(table, i, TableColumns.ImplMap.MEMBER_FORWARDED);
+			long token = TableConstants.decodeCodedIndex(coded, TableConstants.MemberForwarded);
+			if(TableConstants.tableOf(token) != TableConstants.Method)
 			{
 				continue;
 			}
-			long method = getMethod(token[1]);
-
-			int flags = aRow.getConstant("MappingFlags").intValue();
-			String name = aRow.getString("ImportName");
-			long modref = aRow.getTableIndex("ImportScope");
+			long method = getMethod(TableConstants.ridOf(token));
 
-			methods[(int) method - 1].setImplementationMap(new ImplementationMap(flags, name, moduleRefs[(int) modref - 1]));
+			methods[(int) method - 1].setImplementationMap(buildImplementationMap(i));
 		}
 	}
 
+	private ImplementationMap buildImplementationMap(int row)
+	{
+		final int table = TableConstants.ImplMap;
+		int flags = myTables.getInt(table, row, TableColumns.ImplMap.MAPPING_FLAGS);
+		String name = myTables.getString(table, row, TableColumns.ImplMap.IMPORT_NAME);
+		long modref = myTables.getInt(table, row, TableColumns.ImplMap.IMPORT_SCOPE);
+		return new ImplementationMap(flags, name, moduleRefs[(int) modref - 1]);
+	}
+
 	private void setDeclSecurity()
 	{
 		// build DeclSecurity (after Assembly, Method, and TypeDefs) DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.DeclSecurity);
-		if(row == null)
+		final int table = TableConstants.DeclSecurity;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		declSecurities = new DeclSecurity[row.length];
-		for(int i = 0; i < row.length; i++)
+		declSecurities = new DeclSecurity[count];
+		for(int i = 0; i < count; i++)
 		{
-			long coded = row[i].getCodedIndex("Parent");
-			long token[] = tc.parseCodedIndex(coded, TableConstants.HasDeclSecurity);
-			int Action = row[i].getConstant("Action").intValue();
-			byte[] permission = row[i].getBlob("PermissionSet");
-			declSecurities[i] = new DeclSecurity(Action, permission);
+			long coded = myTables.getInt(table, i, TableColumns.DeclSecurity.PARENT);
+			long token = TableConstants.decodeCodedIndex(coded, TableConstants.HasDeclSecurity);
+			declSecurities[i] = buildDeclSecurity(i);
 
-			if(token[0] == TableConstants.TypeDef)
+			if(TableConstants.tableOf(token) == TableConstants.TypeDef)
 			{
-				typeDefs[(int) token[1] - 1].setDeclSecurity(declSecurities[i]);
+				typeDefs[TableConstants.ridOf(token) - 1].setDeclSecurity(declSecurities[i]);
 			}
-			else if(token[0] == TableConstants.Method)
+			else if(TableConstants.tableOf(token) == TableConstants.Method)
 			{
-				methods[(int) getMethod(token[1]) - 1].setDeclSecurity(declSecurities[i]);
+				methods[(int) getMethod(TableConstants.ridOf(token)) - 1].setDeclSecurity(declSecurities[i]);
 			}
-			else if(token[0] == TableConstants.Assembly)
+			else if(TableConstants.tableOf(token) == TableConstants.Assembly)
 			{
 				assemblyInfo.setDeclSecurity(declSecurities[i]);
 			}
 		}
 	}
 
+	private DeclSecurity buildDeclSecurity(int row)
+	{
+		final int table = TableConstants.DeclSecurity;
+		int Action = myTables.getInt(table, row, TableColumns.DeclSecurity.ACTION);
+		byte[] permission = myTables.getBlob(table, row, TableColumns.DeclSecurity.PERMISSION_SET);
+		return new DeclSecurity(Action, permission);
+	}
+
 	@Nullable
 	private TypeDefTempInfo[] buildTypeDefs()
 	{
 		// build TypeDefs (after Field and Methods) DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.TypeDef);
-		if(row == null)
+		final int table = TableConstants.TypeDef;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return null;
 		}
 
-		TypeDefTempInfo[] tempInfos = new TypeDefTempInfo[row.length];
+		TypeDefTempInfo[] tempInfos = new TypeDefTempInfo[count];
 
-		typeDefs = new TypeDef[row.length];
-		for(int i = 0; i < row.length; i++)
+		typeDefs = new TypeDef[count];
+		for(int i = 0; i < count; i++)
 		{
-			String name = row[i].getString("Name");
-			String ns = row[i].getString("Namespace");
-			long flags = row[i].getConstant("Flags").longValue();
+			String name = myTables.getString(table, i, TableColumns.TypeDef.NAME);
+			String ns = myTables.getString(table, i, TableColumns.TypeDef.NAMESPACE);
+			long flags = myTables.getLong(table, i, TableColumns.TypeDef.FLAGS);
 
 			typeDefs[i] = new TypeDef(ns, name, flags);
 
 			TypeDefTempInfo tempInfo = new TypeDefTempInfo();
-			tempInfo.FieldList = row[i].getTableIndex("FieldList");
-			tempInfo.MethodList = row[i].getTableIndex("MethodList");
-			tempInfo.Extends = row[i].getTableIndex("Extends");
+			tempInfo.FieldList = myTables.getInt(table, i, TableColumns.TypeDef.FIELD_LIST);
+			tempInfo.MethodList = myTables.getInt(table, i, TableColumns.TypeDef.METHOD_LIST);
+			tempInfo.Extends = myTables.getInt(table, i, TableColumns.TypeDef.EXTENDS);
 
 			tempInfos[i] = tempInfo;
 		}
@@ -816,9 +1970,16 @@ public class ModuleParser extends BaseCustomAttributeOwner
 					fieldE = Math.min(fieldE, typeDefTempInfos[i + 1].FieldList);
 				}
 
-				for(long j = fieldS; j < fieldE; j++)
+				if(myTables.isEmpty(TableConstants.FieldPtr))
+				{
+					typeDefs[i].setFieldRange(fields, (int) fieldS - 1, (int) fieldE - 1);
+				}
+				else
 				{
-					typeDefs[i].addField(fields[(int) getField(j) - 1]);
+					for(long j = fieldS; j < fieldE; j++)
+					{
+						typeDefs[i].addField(fields[(int) getField(j) - 1]);
+					}
 				}
 				// this sets the field parents
 			}
@@ -832,9 +1993,16 @@ public class ModuleParser extends BaseCustomAttributeOwner
 					methodE = Math.min(methodE, typeDefTempInfos[i + 1].MethodList);
 				}
 
-				for(long j = methodS; j < methodE; j++)
+				if(myTables.isEmpty(TableConstants.MethodPtr))
+				{
+					typeDefs[i].setMethodRange(methods, (int) methodS - 1, (int) methodE - 1);
+				}
+				else
 				{
-					typeDefs[i].addMethod(methods[(int) getMethod(j) - 1]);
+					for(long j = methodS; j < methodE; j++)
+					{
+						typeDefs[i].addMethod(methods[(int) getMethod(j) - 1]);
+					}
 				}
 			}
 		}
@@ -842,56 +2010,48 @@ public class ModuleParser extends BaseCustomAttributeOwner
 
 	private void buildTypeRefs()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.TypeRef);
-		if(row == null)
+		final int table = TableConstants.TypeRef;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		typeRefs = new TypeRef[row.length];
-		for(int i = 0; i < row.length; i++)
+		typeRefs = new TypeRef[count];
+		for(int i = 0; i < count; i++)
 		{
-			long coded = row[i].getCodedIndex("ResolutionScope");
+			long coded = myTables.getInt(table, i, TableColumns.TypeRef.RESOLUTION_SCOPE);
+			String Namespace = myTables.getString(table, i, TableColumns.TypeRef.NAMESPACE);
+			String Name = myTables.getString(table, i, TableColumns.TypeRef.NAME);
 
 			if(coded == 0L)
 			{
 				// ExportedType
-				String Name = row[i].getString("Name");
-				String Namespace = row[i].getString("Namespace");
-
-				for(ExportedTypeRef exportedType : exportedTypes)
-				{
-					if(Name.equals(exportedType.getName()) && Namespace.equals(exportedType.getNamespace()))
-					{
-						typeRefs[i] = exportedType;
-					}
-				}
+				typeRefs[i] = myTypeNameIndex.findExportedType(Namespace, Name);
 				continue;
 			}
 
-			long[] token = tc.parseCodedIndex(coded, TableConstants.ResolutionScope);
-			String Namespace = row[i].getString("Namespace");
-			String Name = row[i].getString("Name");
+			long token = TableConstants.decodeCodedIndex(coded, TableConstants.ResolutionScope);
 
-			switch((int) token[0])
+			switch(TableConstants.tableOf(token))
 			{
 				case TableConstants.ModuleRef:
 				{
-					ModuleTypeRef mod = new ModuleTypeRef(moduleRefs[(int) token[1] - 1], Namespace, Name);
+					ModuleTypeRef mod = new ModuleTypeRef(moduleRefs[TableConstants.ridOf(token) - 1], Namespace, Name);
 					typeRefs[i] = mod;
 					break;
 				}
 
 				case TableConstants.TypeRef:
 				{
-					NestedTypeRef nest = new NestedTypeRef(Namespace, Name, typeRefs[(int) token[1] - 1]);
+					NestedTypeRef nest = new NestedTypeRef(Namespace, Name, typeRefs[TableConstants.ridOf(token) - 1]);
 					typeRefs[i] = nest;
 					break;
 				}
 
 				case TableConstants.AssemblyRef:
 				{
-					AssemblyTypeRef assem = new AssemblyTypeRef(assemblyRefs[(int) token[1] - 1], Namespace, Name);
+					AssemblyTypeRef assem = new AssemblyTypeRef(assemblyRefs[TableConstants.ridOf(token) - 1], Namespace, Name);
 					typeRefs[i] = assem;
 					break;
 				}
@@ -899,18 +2059,11 @@ public class ModuleParser extends BaseCustomAttributeOwner
 				case TableConstants.Module:
 				{
 					// (Implementation == 0x4?)
-					// search through TypeDefs for Name and Namespace
-					for(TypeDef typeDef : typeDefs)
-					{
-						if(typeDef.getName().equals(Name) && typeDef.getNamespace().equals(Namespace))
-						{
-							typeRefs[i] = typeDef;
-						}
-					}
+					typeRefs[i] = myTypeNameIndex.findTypeDef(Namespace, Name);
 					break;
 				}
 				default:
-					System.out.println("Unsupported token in buildTypeRefs(): 0x" + Long.toHexString(token[0]));
+					System.out.println("Unsupported token in buildTypeRefs(): 0x" + Integer.toHexString(TableConstants.tableOf(token)));
 					break;
 			}
 		}
@@ -918,24 +2071,24 @@ public class ModuleParser extends BaseCustomAttributeOwner
 
 	private void buildTypeSpecs()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.TypeSpec);
-		if(row == null)
+		final int table = TableConstants.TypeSpec;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		typeSpecs = new TypeSpec[row.length];
-		for(int i = 0; i < row.length; i++)
+		typeSpecs = new TypeSpec[count];
+		for(int i = 0; i < count; i++)
 		{
 			typeSpecs[i] = new TypeSpec(null);
 		}
 
-		byte[] blob = null;
+		TypeGroup typeGroup = new TypeGroup(typeDefs, typeRefs, typeSpecs, myTypeNameIndex);
 		TypeSignature sig = null;
-		for(int i = 0; i < row.length; i++)
+		for(int i = 0; i < count; i++)
 		{
-			blob = row[i].getBlob("Signature");
-			sig = TypeSignatureParser.parse(new ByteBuffer(blob), new TypeGroup(typeDefs, typeRefs, typeSpecs));
+			sig = TypeSignatureParser.parse(myTables.getBlobReader(table, i, TableColumns.TypeSpec.SIGNATURE), typeGroup);
 			typeSpecs[i].setSignature(sig);
 			//module.addTypeSpec(typeSpecs[i]);
 		}
@@ -953,18 +2106,18 @@ public class ModuleParser extends BaseCustomAttributeOwner
 			long coded = tempInfos[i].Extends;
 			if(coded != 0L)
 			{
-				long[] token = tc.parseCodedIndex(coded, TableConstants.TypeDefOrRefOrSpec);
-				if(token[0] == TableConstants.TypeDef)
+				long token = TableConstants.decodeCodedIndex(coded, TableConstants.TypeDefOrRefOrSpec);
+				if(TableConstants.tableOf(token) == TableConstants.TypeDef)
 				{
-					typeDefs[i].setSuperClass(getByLongIndex(typeDefs, token[1]));
+					typeDefs[i].setSuperClass(getByLongIndex(typeDefs, TableConstants.ridOf(token)));
 				}
-				else if(token[0] == TableConstants.TypeRef)
+				else if(TableConstants.tableOf(token) == TableConstants.TypeRef)
 				{
-					typeDefs[i].setSuperClass(getByLongIndex(typeRefs, token[1]));
+					typeDefs[i].setSuperClass(getByLongIndex(typeRefs, TableConstants.ridOf(token)));
 				}
-				else if(token[0] == TableConstants.TypeSpec)
+				else if(TableConstants.tableOf(token) == TableConstants.TypeSpec)
 				{
-					typeDefs[i].setSuperClass(getByLongIndex(typeSpecs, token[1]));
+					typeDefs[i].setSuperClass(getByLongIndex(typeSpecs, TableConstants.ridOf(token)));
 				}
 				else
 				{
@@ -976,82 +2129,103 @@ public class ModuleParser extends BaseCustomAttributeOwner
 
 	private void setInterfaceImpls()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.InterfaceImpl);
-		if(row == null)
+		final int table = TableConstants.InterfaceImpl;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		interfaceImpls = new InterfaceImplementation[row.length];
-		for(int i = 0; i < row.length; i++)
+		interfaceImpls = new InterfaceImplementation[count];
+		for(int i = 0; i < count; i++)
 		{
-			long clazz = row[i].getTableIndex("Class");
+			long clazz = myTables.getInt(table, i, TableColumns.InterfaceImpl.CLASS);
 			TypeDef def = typeDefs[(int) clazz - 1];
-			long coded = row[i].getCodedIndex("Interface");
-			long inter[] = tc.parseCodedIndex(coded, TableConstants.TypeDefOrRefOrSpec);
-
-			if(inter[0] == TableConstants.TypeDef)
-			{
-				interfaceImpls[i] = new InterfaceImplementation(typeDefs[(int) inter[1] - 1]);
-			}
-			else if(inter[0] == TableConstants.TypeRef)
-			{
-				interfaceImpls[i] = new InterfaceImplementation(typeRefs[(int) inter[1] - 1]);
-			}
-			else if(inter[0] == TableConstants.TypeSpec)
-			{
-				interfaceImpls[i] = new InterfaceImplementation(typeSpecs[(int) inter[1] - 1]);
-			}
+			interfaceImpls[i] = buildInterfaceImpl(i);
 			def.addInterface(interfaceImpls[i]);
 		}
 	}
 
-	private void buildProperties()
+	@Nullable
+	private InterfaceImplementation buildInterfaceImpl(int row)
+	{
+		long coded = myTables.getInt(TableConstants.InterfaceImpl, row, TableColumns.InterfaceImpl.INTERFACE);
+		long inter = TableConstants.decodeCodedIndex(coded, TableConstants.TypeDefOrRefOrSpec);
+
+		if(TableConstants.tableOf(inter) == TableConstants.TypeDef)
+		{
+			return new InterfaceImplementation(typeDefs[TableConstants.ridOf(inter) - 1]);
+		}
+		else if(TableConstants.tableOf(inter) == TableConstants.TypeRef)
+		{
+			return new InterfaceImplementation(typeRefs[TableConstants.ridOf(inter) - 1]);
+		}
+		else if(TableConstants.tableOf(inter) == TableConstants.TypeSpec)
+		{
+			return new InterfaceImplementation(typeSpecs[TableConstants.ridOf(inter) - 1]);
+		}
+		return null;
+	}
+
+	private void buildProperties() throws IOException
 	{
 		// build Properties DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.Property);
-		if(row == null)
+		final int table = TableConstants.Property;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		properties = new Property[row.length];
-		for(int i = 0; i < row.length; i++)
+		prepareSignatures(table, TableColumns.Property.TYPE, row -> PropertySignature.parse(myTables.getBlobReader(table, row, TableColumns.Property.TYPE), group));
+		properties = new Property[count];
+		for(int i = 0; i < count; i++)
 		{
-			String name = row[i].getString("Name");
-			int flags = row[i].getConstant("Flags").intValue();
-			byte[] blob = row[i].getBlob("Type");
-			PropertySignature sig = PropertySignature.parse(new ByteBuffer(blob), group);
+			properties[i] = buildProperty(i);
+		}
+	}
+
+	private Property buildProperty(int row)
+	{
+		final int table = TableConstants.Property;
+		String name = myTables.getString(table, row, TableColumns.Property.NAME);
+		int flags = myTables.getInt(table, row, TableColumns.Property.FLAGS);
+		PropertySignature sig = parseSignature(myTables.getLong(table, row, TableColumns.Property.TYPE), PropertySignature.class, PropertySignature::parse);
 
-			properties[i] = new Property(name, flags, sig);
-		}
+		return new Property(name, flags, sig);
 	}
 
 	private void setPropertyMaps()
 	{
 		// build PropertyMap (after TypeDefs and Property) DONE!
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.PropertyMap);
-		if(row == null)
+		final int table = TableConstants.PropertyMap;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		for(int i = 0; i < row.length; i++)
+		for(int i = 0; i < count; i++)
 		{
-			long parent = row[i].getTableIndex("Parent");
+			long parent = myTables.getInt(table, i, TableColumns.PropertyMap.PARENT);
 			if(parent == 0)
 			{
 				continue;
 			}
-			long propS = row[i].getTableIndex("PropertyList");
+			long propS = myTables.getInt(table, i, TableColumns.PropertyMap.PROPERTY_LIST);
 			if(propS == 0 || properties == null || propS > properties.length)
 			{
 				continue;
 			}
 			long propE = properties.length + 1;
-			if(i < row.length - 1)
+			if(i < count - 1)
+			{
+				propE = Math.min(propE, myTables.getInt(table, i + 1, TableColumns.PropertyMap.PROPERTY_LIST));
+			}
+			if(myTables.isEmpty(TableConstants.PropertyPtr))
 			{
-				propE = Math.min(propE, row[i + 1].getTableIndex("PropertyList").longValue());
+				typeDefs[(int) parent - 1].setPropertyRange(properties, (int) propS - 1, (int) propE - 1);
+				continue;
 			}
 			for(long j = propS; j < propE; j++)
 			{
@@ -1062,16 +2236,17 @@ public class ModuleParser extends BaseCustomAttributeOwner
 
 	private void setNestedClasses()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.NestedClass);
-		if(row == null)
+		final int table = TableConstants.NestedClass;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		for(GenericTableValue aRow : row)
+		for(int i = 0; i < count; i++)
 		{
-			long nest = aRow.getTableIndex("NestedClass");
-			long enclose = aRow.getTableIndex("EnclosingClass");
+			long nest = myTables.getInt(table, i, TableColumns.NestedClass.NESTED_CLASS);
+			long enclose = myTables.getInt(table, i, TableColumns.NestedClass.ENCLOSING_CLASS);
 
 			getByLongIndex(typeDefs, enclose).addNestedClass(getByLongIndex(typeDefs, nest));
 		}
@@ -1079,17 +2254,18 @@ public class ModuleParser extends BaseCustomAttributeOwner
 
 	private void setClassLayouts()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.ClassLayout);
-		if(row == null)
+		final int table = TableConstants.ClassLayout;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		for(GenericTableValue aRow : row)
+		for(int i = 0; i < count; i++)
 		{
-			long typedef = aRow.getTableIndex("Parent");
-			int pSize = aRow.getConstant("PackingSize").intValue();
-			long cSize = aRow.getConstant("ClassSize").longValue();
+			long typedef = myTables.getInt(table, i, TableColumns.ClassLayout.PARENT);
+			int pSize = myTables.getInt(table, i, TableColumns.ClassLayout.PACKING_SIZE);
+			long cSize = myTables.getLong(table, i, TableColumns.ClassLayout.CLASS_SIZE);
 
 			ClassLayout layout = new ClassLayout(pSize, cSize);
 			typeDefs[(int) typedef - 1].setClassLayout(layout);
@@ -1098,74 +2274,88 @@ public class ModuleParser extends BaseCustomAttributeOwner
 
 	private void setFieldRVAs()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.FieldRVA);
-		if(row == null)
+		final int table = TableConstants.FieldRVA;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		for(GenericTableValue aRow : row)
+		for(int i = 0; i < count; i++)
 		{
-			long RVA = aRow.getConstant("RVA").longValue();
-			long field = getField(aRow.getTableIndex("Field"));
+			long RVA = myTables.getLong(table, i, TableColumns.FieldRVA.RVA);
+			long field = getField(myTables.getInt(table, i, TableColumns.FieldRVA.FIELD));
 			fields[(int) field - 1].setFieldRVA(RVA);
 		}
 	}
 
 	private void buildEvents()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.Event);
-		if(row == null)
+		final int table = TableConstants.Event;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		events = new Event[row.length];
-		for(int i = 0; i < row.length; i++)
+		events = new Event[count];
+		for(int i = 0; i < count; i++)
 		{
-			String name = row[i].getString("Name");
-			int flags = row[i].getConstant("EventFlags").intValue();
+			events[i] = buildEvent(i);
+		}
+	}
 
-			AbstractTypeReference handler = null;
-			long coded = row[i].getCodedIndex("EventType");
-			long[] token = tc.parseCodedIndex(coded, TableConstants.TypeDefOrRefOrSpec);
-			if(token[0] == TableConstants.TypeDef)
-			{
-				handler = getByLongIndex(typeDefs, token[1]);
-			}
-			else if(token[0] == TableConstants.TypeRef)
-			{
-				handler = getByLongIndex(typeRefs, token[1]);
-			}
-			else if(token[0] == TableConstants.TypeSpec)
-			{
-				handler = getByLongIndex(typeSpecs, token[1]);
-			}
-			else
-			{
-				throw new IllegalArgumentException();
-			}
+	private Event buildEvent(int row)
+	{
+		final int table = TableConstants.Event;
+		String name = myTables.getString(table, row, TableColumns.Event.NAME);
+		int flags = myTables.getInt(table, row, TableColumns.Event.EVENT_FLAGS);
 
-			events[i] = new Event(name, flags, handler);
+		AbstractTypeReference handler = null;
+		long coded = myTables.getInt(table, row, TableColumns.Event.EVENT_TYPE);
+		long token = TableConstants.decodeCodedIndex(coded, TableConstants.TypeDefOrRefOrSpec);
+		if(TableConstants.tableOf(token) == TableConstants.TypeDef)
+		{
+			handler = getByLongIndex(typeDefs, TableConstants.ridOf(token));
+		}
+		else if(TableConstants.tableOf(token) == TableConstants.TypeRef)
+		{
+			handler = getByLongIndex(typeRefs, TableConstants.ridOf(token));
+		}
+		else if(TableConstants.tableOf(token) == TableConstants.TypeSpec)
+		{
+			handler = getByLongIndex(typeSpecs, TableConstants.ridOf(token));
+		}
+		else
+		{
+			throw new IllegalArgumentException();
 		}
+
+		return new Event(name, flags, handler);
 	}
 
 	private void setEventMaps()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.EventMap);
-		if(row == null)
+		final int table = TableConstants.EventMap;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		for(int i = 0; i < row.length; i++)
+		for(int i = 0; i < count; i++)
 		{
-			long parent = row[i].getTableIndex("Parent");
-			long eventS = row[i].getTableIndex("EventList");
+			long parent = myTables.getInt(table, i, TableColumns.EventMap.PARENT);
+			long eventS = myTables.getInt(table, i, TableColumns.EventMap.EVENT_LIST);
 			long eventE = events.length + 1;
-			if(i < row.length - 1)
+			if(i < count - 1)
+			{
+				eventE = Math.min(eventE, myTables.getInt(table, i + 1, TableColumns.EventMap.EVENT_LIST));
+			}
+			if(myTables.isEmpty(TableConstants.EventPtr))
 			{
-				eventE = Math.min(eventE, row[i + 1].getTableIndex("EventList").longValue());
+				typeDefs[(int) parent - 1].setEventRange(events, (int) eventS - 1, (int) eventE - 1);
+				continue;
 			}
 			for(long j = eventS; j < eventE; j++)
 			{
@@ -1176,457 +2366,500 @@ public class ModuleParser extends BaseCustomAttributeOwner
 
 	private void setFieldMarshals()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.FieldMarshal);
-		if(row == null)
+		final int table = TableConstants.FieldMarshal;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		for(GenericTableValue aRow : row)
+		for(int i = 0; i < count; i++)
 		{
-			long[] index = tc.parseCodedIndex(aRow.getCodedIndex("Parent"), TableConstants.HasFieldMarshal);
-			byte[] blob = aRow.getBlob("NativeType");
-			MarshalSignature sig = MarshalSignature.parse(new ByteBuffer(blob));
+			long index = TableConstants.decodeCodedIndex(myTables.getInt(table, i, TableColumns.FieldMarshal.PARENT), TableConstants.HasFieldMarshal);
+			MarshalSignature sig = MarshalSignature.parse(myTables.getBlobReader(table, i, TableColumns.FieldMarshal.NATIVE_TYPE));
 
-			if(index[0] == TableConstants.Field) // Field
+			if(TableConstants.tableOf(index) == TableConstants.Field) // Field
 			{
-				fields[(int) getField(index[1]) - 1].setFieldMarshal(sig);
+				fields[(int) getField(TableConstants.ridOf(index)) - 1].setFieldMarshal(sig);
 			}
 			else // Param
 			{
-				params[(int) getParam(index[1]) - 1].setFieldMarshal(sig);
+				params[(int) getParam(TableConstants.ridOf(index)) - 1].setFieldMarshal(sig);
 			}
 		}
 	}
 
 	private void setMethodSemantics()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.MethodSemantics);
-		if(row == null)
+		final int table = TableConstants.MethodSemantics;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		for(GenericTableValue aRow : row)
+		for(int i = 0; i < count; i++)
 		{
-			long method = getMethod(aRow.getTableIndex("Method"));
-			int sem = aRow.getConstant("Semantics").intValue();
-			long coded = aRow.getCodedIndex("Association");
-			long token[] = tc.parseCodedIndex(coded, TableConstants.HasSemantics);
-			MethodDef meth = methods[(int) method - 1];
+			setMethodSemantics(i);
+		}
+	}
+
+	private void setMethodSemantics(int row)
+	{
+		final int table = TableConstants.MethodSemantics;
+		long method = getMethod(myTables.getInt(table, row, TableColumns.MethodSemantics.METHOD));
+		int sem = myTables.getInt(table, row, TableColumns.MethodSemantics.SEMANTICS);
+		long coded = myTables.getInt(table, row, TableColumns.MethodSemantics.ASSOCIATION);
+		long token = TableConstants.decodeCodedIndex(coded, TableConstants.HasSemantics);
+		MethodDef meth = methodAt((int) method - 1);
 
-			if(token[0] == TableConstants.Event)
+		if(TableConstants.tableOf(token) == TableConstants.Event)
+		{
+			Event event = events[(int) getEvent(TableConstants.ridOf(token)) - 1];
+			meth.setMethodSemantics(new MethodSemantics(sem, event));
+			if(sem == MethodSemantics.AddOn)
 			{
-				Event event = events[(int) getEvent(token[1]) - 1];
-				meth.setMethodSemantics(new MethodSemantics(sem, event));
-				if(sem == MethodSemantics.AddOn)
-				{
-					event.setAddOnMethod(meth);
-				}
-				else if(sem == MethodSemantics.RemoveOn)
-				{
-					event.setRemoveOnMethod(meth);
-				}
-				else if(sem == MethodSemantics.Fire)
-				{
-					event.setFireMethod(meth);
-				}
+				event.setAddOnMethod(meth);
 			}
-			else if(token[0] == TableConstants.Property)
+			else if(sem == MethodSemantics.RemoveOn)
 			{
-				Property prop = properties[(int) getProperty(token[1]) - 1];
-				meth.setMethodSemantics(new MethodSemantics(sem, prop));
-				if(sem == MethodSemantics.Getter)
-				{
-					prop.setGetter(meth);
-				}
-				else if(sem == MethodSemantics.Setter)
-				{
-					prop.setSetter(meth);
-				}
+				event.setRemoveOnMethod(meth);
+			}
+			else if(sem == MethodSemantics.Fire)
+			{
+				event.setFireMethod(meth);
+			}
+		}
+		else if(TableConstants.tableOf(token) == TableConstants.Property)
+		{
+			Property prop = properties[(int) getProperty(TableConstants.ridOf(token)) - 1];
+			meth.setMethodSemantics(new MethodSemantics(sem, prop));
+			if(sem == MethodSemantics.Getter)
+			{
+				prop.setGetter(meth);
+			}
+			else if(sem == MethodSemantics.Setter)
+			{
+				prop.setSetter(meth);
 			}
 		}
 	}
 
 	private void setDefaultValues()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.Constant);
-		if(row == null)
+		final int table = TableConstants.Constant;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		for(GenericTableValue aRow : row)
+		for(int i = 0; i < count; i++)
 		{
-			byte[] blob = aRow.getBlob("Value");
-			long coded = aRow.getCodedIndex("Parent");
-			long token[] = tc.parseCodedIndex(coded, TableConstants.HasConst);
-			if(token[0] == TableConstants.Field)
+			byte[] blob = myTables.getBlob(table, i, TableColumns.Constant.VALUE);
+			long coded = myTables.getInt(table, i, TableColumns.Constant.PARENT);
+			long token = TableConstants.decodeCodedIndex(coded, TableConstants.HasConst);
+			if(TableConstants.tableOf(token) == TableConstants.Field)
 			{
-				fields[(int) getField(token[1]) - 1].setDefaultValue(blob);
+				fields[(int) getField(TableConstants.ridOf(token)) - 1].setDefaultValue(blob);
 			}
-			else if(token[0] == TableConstants.Param)
+			else if(TableConstants.tableOf(token) == TableConstants.Param)
 			{
-				params[(int) getParam(token[1]) - 1].setDefaultValue(blob);
+				params[(int) getParam(TableConstants.ridOf(token)) - 1].setDefaultValue(blob);
 			}
-			else if(token[0] == TableConstants.Property)
+			else if(TableConstants.tableOf(token) == TableConstants.Property)
 			{
-				properties[(int) getProperty(token[1]) - 1].setDefaultValue(blob);
+				properties[(int) getProperty(TableConstants.ridOf(token)) - 1].setDefaultValue(blob);
 			}
 		}
 	}
 
-	private void buildMemberRefs()
+	private void buildMemberRefs() throws IOException
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.MemberRef);
-		if(row == null)
+		final int table = TableConstants.MemberRef;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		memberRefs = new MemberRef[row.length];
-		for(int i = 0; i < row.length; i++)
+		prepareSignatures(table, TableColumns.MemberRef.SIGNATURE, row ->
 		{
-			byte[] blob = row[i].getBlob("Signature");
-			if((blob[0] & 0x0F) == CallingConvention.FIELD)
-			{
-				// FIELDREF
-				long coded = row[i].getCodedIndex("Class");
-				long newtok[] = tc.parseCodedIndex(coded, TableConstants.MemberRefParent);
-				String name = row[i].getString("Name");
-				FieldSignature sig = FieldSignature.parse(new ByteBuffer(blob),
-						group);
+			BlobReader blob = myTables.getBlobReader(table, row, TableColumns.MemberRef.SIGNATURE);
+			return (blob.peek() & 0x0F) == CallingConvention.FIELD ? FieldSignature.parse(blob, group) : MethodSignature.parse(blob, group);
+		});
+		memberRefs = new MemberRef[count];
+		for(int i = 0; i < count; i++)
+		{
+			memberRefs[i] = buildMemberRef(myTables, i);
+		}
+	}
 
-				if(newtok[0] == TableConstants.TypeRef)
-				{
-					memberRefs[i] = new FieldRef(name, sig, typeRefs[(int) newtok[1] - 1]);
-				}
-				else if(newtok[0] == TableConstants.ModuleRef)
-				{
-					memberRefs[i] = new GlobalFieldRef(moduleRefs[(int) newtok[1] - 1], name, sig);
-				}
-				else if(newtok[0] == TableConstants.TypeSpec)
-				{
-					memberRefs[i] = new FieldRef(name, sig, typeSpecs[(int) newtok[1] - 1]);
-				}
-				else if(newtok[0] == TableConstants.TypeDef)
-				{
-					memberRefs[i] = new FieldRef(name, sig, typeDefs[(int) newtok[1] - 1]);
-				}
+	@Nullable
+	private MemberRef buildMemberRef(@Nonnull MetadataTables tables, int row)
+	{
+		final int table = TableConstants.MemberRef;
+		long blobOffset = tables.getLong(table, row, TableColumns.MemberRef.SIGNATURE);
+		if((tc.getBlobReader(blobOffset).peek() & 0x0F) == CallingConvention.FIELD)
+		{
+			// FIELDREF
+			long coded = tables.getInt(table, row, TableColumns.MemberRef.CLASS);
+			long newtok = TableConstants.decodeCodedIndex(coded, TableConstants.MemberRefParent);
+			String name = tables.getString(table, row, TableColumns.MemberRef.NAME);
+			FieldSignature sig = parseSignature(blobOffset, FieldSignature.class, FieldSignature::parse);
+
+			if(TableConstants.tableOf(newtok) == TableConstants.TypeRef)
+			{
+				return new FieldRef(name, sig, typeRefs[TableConstants.ridOf(newtok) - 1]);
 			}
-			else
+			else if(TableConstants.tableOf(newtok) == TableConstants.ModuleRef)
+			{
+				return new GlobalFieldRef(moduleRefs[TableConstants.ridOf(newtok) - 1], name, sig);
+			}
+			else if(TableConstants.tableOf(newtok) == TableConstants.TypeSpec)
 			{
-				// METHODREF
-				long coded = row[i].getCodedIndex("Class");
-				long newtok[] = tc.parseCodedIndex(coded, TableConstants.MemberRefParent);
-				String name = row[i].getString("Name");
+				return new FieldRef(name, sig, typeSpecs[TableConstants.ridOf(newtok) - 1]);
+			}
+			else if(TableConstants.tableOf(newtok) == TableConstants.TypeDef)
+			{
+				return new FieldRef(name, sig, typeDefs[TableConstants.ridOf(newtok) - 1]);
+			}
+		}
+		else
+		{
+			// METHODREF
+			long coded = tables.getInt(table, row, TableColumns.MemberRef.CLASS);
+			long newtok = TableConstants.decodeCodedIndex(coded, TableConstants.MemberRefParent);
+			String name = tables.getString(table, row, TableColumns.MemberRef.NAME);
 
-				MethodSignature callsig = MethodSignature.parse(new ByteBuffer
-						(blob), group);
+			MethodSignature callsig = parseSignature(blobOffset, MethodSignature.class, MethodSignature::parse);
 
-				if(newtok[0] == TableConstants.TypeRef)
-				{
-					memberRefs[i] = new MethodRef(name, typeRefs[(int) newtok[1] - 1], callsig);
-				}
-				else if(newtok[0] == TableConstants.ModuleRef)
-				{
-					memberRefs[i] = new GlobalMethodRef(moduleRefs[(int) newtok[1] - 1], name, callsig);
-				}
-				else if(newtok[0] == TableConstants.Method)
-				{
-					memberRefs[i] = new VarargsMethodRef(methods[(int) getMethod(newtok[1]) - 1], callsig);
-				}
-				else if(newtok[0] == TableConstants.TypeSpec)
-				{
-					memberRefs[i] = new MethodRef(name, typeSpecs[(int) newtok[1] - 1], callsig);
-				}
-				else if(newtok[0] == TableConstants.TypeDef)
-				{
-					memberRefs[i] = new MethodRef(name, typeDefs[(int) newtok[1] - 1], callsig);
-				}
+			if(TableConstants.tableOf(newtok) == TableConstants.TypeRef)
+			{
+				return new MethodRef(name, typeRefs[TableConstants.ridOf(newtok) - 1], callsig);
+			}
+			else if(TableConstants.tableOf(newtok) == TableConstants.ModuleRef)
+			{
+				return new GlobalMethodRef(moduleRefs[TableConstants.ridOf(newtok) - 1], name, callsig);
+			}
+			else if(TableConstants.tableOf(newtok) == TableConstants.Method)
+			{
+				return new VarargsMethodRef(methodAt((int) getMethod(TableConstants.ridOf(newtok)) - 1), callsig);
+			}
+			else if(TableConstants.tableOf(newtok) == TableConstants.TypeSpec)
+			{
+				return new MethodRef(name, typeSpecs[TableConstants.ridOf(newtok) - 1], callsig);
+			}
+			else if(TableConstants.tableOf(newtok) == TableConstants.TypeDef)
+			{
+				return new MethodRef(name, typeDefs[TableConstants.ridOf(newtok) - 1], callsig);
 			}
 		}
+		return null;
 	}
 
 	private void setMethodMaps()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.MethodImpl);
-		if(row == null)
+		final int table = TableConstants.MethodImpl;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		for(GenericTableValue aRow : row)
+		for(int i = 0; i < count; i++)
 		{
-			long typedef = aRow.getTableIndex("Class");
-			long coded = aRow.getCodedIndex("MethodDeclaration");
-			long decltoken[] = tc.parseCodedIndex(coded, TableConstants.MethodDefOrRef);
-			coded = aRow.getCodedIndex("MethodBody");
-			long bodytoken[] = tc.parseCodedIndex(coded, TableConstants.MethodDefOrRef);
+			long typedef = myTables.getInt(table, i, TableColumns.MethodImpl.CLASS);
+			TypeDef def = typeDefs[(int) typedef - 1];
+			def.addMethodMap(buildMethodMap(i));
+		}
+	}
 
-			MethodDefOrRef body = null, decl = null;
+	private MethodMap buildMethodMap(int row)
+	{
+		final int table = TableConstants.MethodImpl;
+		long coded = myTables.getInt(table, row, TableColumns.MethodImpl.METHOD_DECLARATION);
+		long decltoken = TableConstants.decodeCodedIndex(coded, TableConstants.MethodDefOrRef);
+		coded = myTables.getInt(table, row, TableColumns.MethodImpl.METHOD_BODY);
+		long bodytoken = TableConstants.decodeCodedIndex(coded, TableConstants.MethodDefOrRef);
 
-			if(bodytoken[0] == TableConstants.Method)
-			{
-				// Method
-				body = methods[(int) getMethod(bodytoken[1]) - 1];
-			}
-			else
-			{
-				// MemberRef
-				body = (MethodDefOrRef) memberRefs[(int) bodytoken[1] - 1];
-			}
+		MethodDefOrRef body = null, decl = null;
 
-			if(decltoken[0] == TableConstants.Method)
-			{
-				// Method
-				decl = methods[(int) getMethod(decltoken[1]) - 1];
-			}
-			else
-			{
-				// MemberRef
-				decl = (MethodDefOrRef) memberRefs[(int) decltoken[1] - 1];
-			}
+		if(TableConstants.tableOf(bodytoken) == TableConstants.Method)
+		{
+			// Method
+			body = methodAt((int) getMethod(TableConstants.ridOf(bodytoken)) - 1);
+		}
+		else
+		{
+			// MemberRef
+			body = (MethodDefOrRef) memberRefAt(TableConstants.ridOf(bodytoken) - 1);
+		}
 
-			MethodMap map = new MethodMap(decl, body);
-			TypeDef def = typeDefs[(int) typedef - 1];
-			def.addMethodMap(map);
+		if(TableConstants.tableOf(decltoken) == TableConstants.Method)
+		{
+			// Method
+			decl = methodAt((int) getMethod(TableConstants.ridOf(decltoken)) - 1);
+		}
+		else
+		{
+			// MemberRef
+			decl = (MethodDefOrRef) memberRefAt(TableConstants.ridOf(decltoken) - 1);
 		}
+
+		return new MethodMap(decl, body);
 	}
 
-	private void buildStandAloneSigs()
+	private void buildStandAloneSigs() throws IOException
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.StandAloneSig);
-		if(row == null)
+		final int table = TableConstants.StandAloneSig;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		standAloneSigs = new StandAloneSignature[row.length];
-		for(int i = 0; i < row.length; i++)
+		StandAloneSignature[] signatures = new StandAloneSignature[count];
+		// not shared through parseSignature: every StandAloneSig row owns its custom attributes
+		forEachRange(count, (from, to) ->
 		{
-			byte[] blob = row[i].getBlob("Signature");
-			if((blob[0] & 0x0F) == CallingConvention.LOCAL_SIG)
-			{
-				// LocalVarList
-				standAloneSigs[i] = LocalVarList.parse(new ByteBuffer(blob), group);
-			}
-			else if((blob[0] & 0x0F) == CallingConvention.FIELD)
-			{
-				// field
-				standAloneSigs[i] = FieldSignature.parse(new ByteBuffer(blob), group);
-			}
-			else
+			for(int i = from; i < to; i++)
 			{
-				// MethodSignature
-				standAloneSigs[i] = MethodSignature.parse(new ByteBuffer(blob), group);
+				signatures[i] = buildStandAloneSignature(myTables, i);
 			}
+		});
+		standAloneSigs = signatures;
+	}
+
+	@Nullable
+	private StandAloneSignature buildStandAloneSignature(@Nonnull MetadataTables tables, int row)
+	{
+		final int table = TableConstants.StandAloneSig;
+		BlobReader blob = tables.getBlobReader(table, row, TableColumns.StandAloneSig.SIGNATURE);
+		if((blob.peek() & 0x0F) == CallingConvention.LOCAL_SIG)
+		{
+			// LocalVarList
+			return LocalVarList.parse(blob, group);
+		}
+		else if((blob.peek() & 0x0F) == CallingConvention.FIELD)
+		{
+			// field
+			return FieldSignature.parse(blob, group);
+		}
+		else
+		{
+			// MethodSignature
+			return MethodSignature.parse(blob, group);
 		}
 	}
 
 	private void buildGenericParams()
 	{
-		GenericTableValue[] table = myTableValues.getAndDrop(TableConstants.GenericParam);
-		if(table == null)
+		final int table = TableConstants.GenericParam;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		myGenericParams = new GenericParamDef[table.length];
+		myGenericParams = new GenericParamDef[count];
 
-		int i = 0;
-		for(GenericTableValue genericTableValue : table)
+		for(int i = 0; i < count; i++)
 		{
-			String name = genericTableValue.getString("Name");
-
-			int flags = genericTableValue.getConstant("Flags").intValue();
-			long owner = genericTableValue.getTableIndex("Parent");
+			long owner = myTables.getInt(table, i, TableColumns.GenericParam.PARENT);
 
 			GenericParamOwner paramOwner = null;
-			long[] token = tc.parseCodedIndex(owner, TableConstants.TypeOrMethodDef);
-			if(token[0] == TableConstants.TypeDef)
+			long token = TableConstants.decodeCodedIndex(owner, TableConstants.TypeOrMethodDef);
+			if(TableConstants.tableOf(token) == TableConstants.TypeDef)
 			{
-				paramOwner = getByLongIndex(typeDefs, token[1]);
+				paramOwner = getByLongIndex(typeDefs, TableConstants.ridOf(token));
 			}
 			else
 			{
-				paramOwner = getByLongIndex(methods, token[1]);
+				paramOwner = getByLongIndex(methods, TableConstants.ridOf(token));
 			}
 
-			GenericParamDef paramDef = new GenericParamDef(name, flags);
-			paramOwner.addGenericParam(paramDef);
-
-			myGenericParams[i++] = paramDef;
+			paramOwner.addGenericParam(buildGenericParam(i));
 		}
 	}
 
+	private GenericParamDef buildGenericParam(int row)
+	{
+		final int table = TableConstants.GenericParam;
+		String name = myTables.getString(table, row, TableColumns.GenericParam.NAME);
+		int flags = myTables.getInt(table, row, TableColumns.GenericParam.FLAGS);
+
+		myGenericParams[row] = new GenericParamDef(name, flags);
+		return myGenericParams[row];
+	}
+
 	private void buildGenericParamConstraints()
 	{
-		GenericTableValue[] table = myTableValues.getAndDrop(TableConstants.GenericParamConstraint);
-		if(table == null)
+		final int table = TableConstants.GenericParamConstraint;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		myGenericParamConstraints = new GenericParamConstraintDef[table.length];
+		myGenericParamConstraints = new GenericParamConstraintDef[count];
 
-		int i = 0;
-		for(GenericTableValue genericTableValue : table)
+		for(int i = 0; i < count; i++)
 		{
-			long parent = genericTableValue.getTableIndex("Parent");
-			long constraint = genericTableValue.getCodedIndex("Constraint");
-
-			long[] values = tc.parseCodedIndex(constraint, TableConstants.TypeDefOrRefOrSpec);
+			long parent = myTables.getInt(table, i, TableColumns.GenericParamConstraint.PARENT);
 
 			GenericParamDef paramDef = getByLongIndex(myGenericParams, parent);
 			assert paramDef != null : parent;
 
-			AbstractTypeReference typeReference = null;
-			if(values[0] == TableConstants.TypeDef)
-			{
-				typeReference = getByLongIndex(typeDefs, values[1]);
-			}
-			else if(values[0] == TableConstants.TypeRef)
-			{
-				typeReference = getByLongIndex(typeRefs, values[1]);
-			}
-			else if(values[0] == TableConstants.TypeSpec)
-			{
-				typeReference = getByLongIndex(typeSpecs, values[1]);
-			}
+			buildGenericParamConstraint(i);
+		}
+	}
 
-			if(typeReference == null)
-			{
-				i ++;
-				LOG.warn("Unknown type for generuc param constraint " + Long.toHexString(values[0]));
-				continue;
-			}
+	@Nullable
+	private GenericParamConstraintDef buildGenericParamConstraint(int row)
+	{
+		long constraint = myTables.getInt(TableConstants.GenericParamConstraint, row, TableColumns.GenericParamConstraint.CONSTRAINT);
+
+		long values = TableConstants.decodeCodedIndex(constraint, TableConstants.TypeDefOrRefOrSpec);
+
+		AbstractTypeReference typeReference = null;
+		if(TableConstants.tableOf(values) == TableConstants.TypeDef)
+		{
+			typeReference = getByLongIndex(typeDefs, TableConstants.ridOf(values));
+		}
+		else if(TableConstants.tableOf(values) == TableConstants.TypeRef)
+		{
+			typeReference = getByLongIndex(typeRefs, TableConstants.ridOf(values));
+		}
+		else if(TableConstants.tableOf(values) == TableConstants.TypeSpec)
+		{
+			typeReference = getByLongIndex(typeSpecs, TableConstants.ridOf(values));
+		}
 
-			myGenericParamConstraints[i++] = new GenericParamConstraintDef(typeReference);
+		if(typeReference == null)
+		{
+			LOG.warn("Unknown type for generuc param constraint " + Integer.toHexString(TableConstants.tableOf(values)));
+			return null;
 		}
+
+		myGenericParamConstraints[row] = new GenericParamConstraintDef(typeReference);
+		return myGenericParamConstraints[row];
 	}
 
 	private void setCustomAttributes()
 	{
-		GenericTableValue[] row = myTableValues.getAndDrop(TableConstants.CustomAttribute);
-		if(row == null)
+		final int table = TableConstants.CustomAttribute;
+		int count = myTables.getRowCount(table);
+		if(count == 0)
 		{
 			return;
 		}
 
-		for(GenericTableValue aRow : row)
+		for(int i = 0; i < count; i++)
 		{
-			byte[] blob = aRow.getBlob("Value");
-			long coded = aRow.getCodedIndex("Type");
-			long[] token = tc.parseCodedIndex(coded, TableConstants.CustomAttributeType);
+			CustomAttribute ca = buildCustomAttribute(i);
 
-			CustomAttribute ca = null;
+			long coded = myTables.getInt(table, i, TableColumns.CustomAttribute.PARENT);
+			long token = TableConstants.decodeCodedIndex(coded, TableConstants.HasCustomAttribute);
 
-			if(token[0] == TableConstants.Method)
+			CustomAttributeOwner owner = getCustomAttributeOwner(token);
+			if(owner != null)
 			{
-				ca = new CustomAttribute(blob, methods[(int) getMethod(token[1]) - 1]);
+				owner.addCustomAttribute(ca);
 			}
-			else if(token[0] == TableConstants.MemberRef)
+			else
 			{
-				ca = new CustomAttribute(blob, (MethodDefOrRef) memberRefs[(int) token[1] - 1]);
+				LOG.warn("Unsupported parent type: " + Integer.toHexString(TableConstants.tableOf(token)));
 			}
+		}
+	}
 
-			assert ca != null;
+	private CustomAttribute buildCustomAttribute(int row)
+	{
+		final int table = TableConstants.CustomAttribute;
+		byte[] blob = myTables.getBlob(table, row, TableColumns.CustomAttribute.VALUE);
+		long coded = myTables.getInt(table, row, TableColumns.CustomAttribute.TYPE);
+		long token = TableConstants.decodeCodedIndex(coded, TableConstants.CustomAttributeType);
 
-			coded = aRow.getCodedIndex("Parent");
-			token = tc.parseCodedIndex(coded, TableConstants.HasCustomAttribute);
+		CustomAttribute ca = null;
 
-			if(token[0] == TableConstants.Method)
-			{
-				methods[(int) getMethod(token[1]) - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.Field)
-			{
-				fields[(int) getField(token[1]) - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.TypeRef)
-			{
-				typeRefs[(int) token[1] - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.TypeDef)
-			{
-				typeDefs[(int) token[1] - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.Param)
-			{
-				params[(int) getParam(token[1]) - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.InterfaceImpl)
-			{
-				interfaceImpls[(int) token[1] - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.MemberRef)
-			{
-				memberRefs[(int) token[1] - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.Module)
-			{
-				addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.DeclSecurity)
-			{
-				declSecurities[(int) token[1] - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.Property)
-			{
-				properties[(int) getProperty(token[1]) - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.Event)
-			{
-				events[(int) getEvent(token[1]) - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.StandAloneSig)
-			{
-				standAloneSigs[(int) token[1] - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.ModuleRef)
-			{
-				moduleRefs[(int) token[1] - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.TypeSpec)
-			{
-				typeSpecs[(int) token[1] - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.Assembly)
-			{
-				assemblyInfo.addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.AssemblyRef)
-			{
-				assemblyRefs[(int) token[1] - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.File)
-			{
-				fileReferences[(int) token[1] - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.ExportedType)
-			{
-				exportedTypes[(int) token[1] - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.ManifestResource)
-			{
-				mresources[(int) token[1] - 1].addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.GenericParam)
-			{
-				getByLongIndex(myGenericParams, token[1]).addCustomAttribute(ca);
-			}
-			else if(token[0] == TableConstants.GenericParamConstraint)
-			{
-				getByLongIndex(myGenericParamConstraints, token[1]).addCustomAttribute(ca);
-			}
-			else
-			{
-				LOG.warn("Unsupported parent type: " + Long.toHexString(token[0]));
-			}
+		if(TableConstants.tableOf(token) == TableConstants.Method)
+		{
+			ca = new CustomAttribute(blob, methodAt((int) getMethod(TableConstants.ridOf(token)) - 1));
+		}
+		else if(TableConstants.tableOf(token) == TableConstants.MemberRef)
+		{
+			ca = new CustomAttribute(blob, (MethodDefOrRef) memberRefAt(TableConstants.ridOf(token) - 1));
+		}
+
+		assert ca != null;
+		return ca;
+	}
+
+	@Nullable
+	private CustomAttributeOwner getCustomAttributeOwner(long token)
+	{
+		int rid = TableConstants.ridOf(token);
+		switch(TableConstants.tableOf(token))
+		{
+			case TableConstants.Method:
+				return methods[(int) getMethod(rid) - 1];
+			case TableConstants.Field:
+				return fields[(int) getField(rid) - 1];
+			case TableConstants.TypeRef:
+				return typeRefs[rid - 1];
+			case TableConstants.TypeDef:
+				return typeDefs[rid - 1];
+			case TableConstants.Param:
+				return params[(int) getParam(rid) - 1];
+			case TableConstants.InterfaceImpl:
+				return interfaceImpls[rid - 1];
+			case TableConstants.MemberRef:
+				return memberRefs[rid - 1];
+			case TableConstants.Module:
+				return this;
+			case TableConstants.DeclSecurity:
+				return declSecurities[rid - 1];
+			case TableConstants.Property:
+				return properties[(int) getProperty(rid) - 1];
+			case TableConstants.Event:
+				return events[(int) getEvent(rid) - 1];
+			case TableConstants.StandAloneSig:
+				return standAloneSigs[rid - 1];
+			case TableConstants.ModuleRef:
+				return moduleRefs[rid - 1];
+			case TableConstants.TypeSpec:
+				return typeSpecs[rid - 1];
+			case TableConstants.Assembly:
+				return assemblyInfo;
+			case TableConstants.AssemblyRef:
+				return assemblyRefs[rid - 1];
+			case TableConstants.File:
+				return fileReferences[rid - 1];
+			case TableConstants.ExportedType:
+				return exportedTypes[rid - 1];
+			case TableConstants.ManifestResource:
+				return mresources[rid - 1];
+			case TableConstants.GenericParam:
+				return getByLongIndex(myGenericParams, rid);
+			case TableConstants.GenericParamConstraint:
+				return getByLongIndex(myGenericParamConstraints, rid);
+			default:
+				return null;
+		}
+	}
+
+	@Nonnull
+	private static <T> T[] ensureLength(@Nullable T[] array, int length, @Nonnull IntFunction<T[]> factory)
+	{
+		if(array == null)
+		{
+			return factory.apply(length);
 		}
+		return array.length >= length ? array : Arrays.copyOf(array, length);
 	}
 
+	@Nullable
 	private static <T> T getByLongIndex(T[] array, long index)
 	{
 		return array[(int) (index - 1)];
@@ -1642,8 +2875,45 @@ public class ModuleParser extends BaseCustomAttributeOwner
 		return typeDefs;
 	}
 
+	/**
+	 * Returns the TypeDef with the given namespace and name, or null. Nested types are not found, see findTypeDef(String).
+	 *
+	 * @param namespace the namespace, empty for the global namespace
+	 */
+	@Nullable
+	public TypeDef findTypeDef(@Nonnull String namespace, @Nonnull String name)
+	{
+		return myTypeNameIndex.findTypeDef(namespace, name);
+	}
+
+	/**
+	 * Returns the TypeDef with the given reflection path (i.e. "Namespace.Outer+Inner"), or null
+	 */
+	@Nullable
+	public TypeDef findTypeDef(@Nonnull String path)
+	{
+		return myTypeNameIndex.findTypeDef(path);
+	}
+
+	/**
+	 * Returns the index of the defined and exported types, which also lists the top-level types by namespace
+	 */
+	@Nonnull
+	public TypeNameIndex getTypeNameIndex()
+	{
+		return myTypeNameIndex;
+	}
+
 	public GenericParamDef[] getGenericParams()
 	{
+		if(myLoadedTypes != null)
+		{
+			// generic parameters belong to types and methods, so all of them are built
+			for(int i = 0; i < myLoadedTypes.length; i++)
+			{
+				loadMembers(i);
+			}
+		}
 		return myGenericParams;
 	}
 }
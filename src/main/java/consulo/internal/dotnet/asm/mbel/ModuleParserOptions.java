@@ -0,0 +1,70 @@
+package consulo.internal.dotnet.asm.mbel;
+
+import consulo.internal.dotnet.asm.util.StringPool;
+
+import jakarta.annotation.Nullable;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tuning options of {@link ModuleParser}. The defaults parse everything on the calling thread,
+ * the same way the constructors without options do.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public class ModuleParserOptions
+{
+	private ForkJoinPool myPool;
+	private StringPool myStringPool;
+	private boolean myLazy;
+
+	/**
+	 * Sets the pool used to decode the metadata tables and the signatures of large member tables
+	 * (fields, methods, properties, member references and stand-alone signatures) in parallel, null to decode on the calling thread.
+	 * The parsed module is the same either way, including which members share a signature instance.
+	 */
+	public ModuleParserOptions setPool(@Nullable ForkJoinPool pool)
+	{
+		myPool = pool;
+		return this;
+	}
+
+	@Nullable
+	public ForkJoinPool getPool()
+	{
+		return myPool;
+	}
+
+	/**
+	 * Sets the pool which all names of the module are interned in. Sharing one pool between
+	 * the parsers of many modules keeps a single copy of names like "System" or "ToString".
+	 */
+	public ModuleParserOptions setStringPool(@Nullable StringPool stringPool)
+	{
+		myStringPool = stringPool;
+		return this;
+	}
+
+	@Nullable
+	public StringPool getStringPool()
+	{
+		return myStringPool;
+	}
+
+	/**
+	 * Enables the lazy mode: only the types and references are built by the constructor, and the members,
+	 * member signatures and custom attributes of a TypeDef are read from the tables on first access to any of them.
+	 * Members referenced by token (see ModuleParser.getMethodDefOrRef) build their declaring type.
+	 * The module is kept in memory until the parser is discarded.
+	 */
+	public ModuleParserOptions setLazy(boolean lazy)
+	{
+		myLazy = lazy;
+		return this;
+	}
+
+	public boolean isLazy()
+	{
+		return myLazy;
+	}
+}
@@ -22,6 +22,7 @@ package consulo.internal.dotnet.asm.mbel;
 import consulo.internal.dotnet.asm.signature.TypeAttributes;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -38,6 +39,8 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 {
 	private long TypeDefRID = -1L;
 
+	// member lists are views over the arrays of ModuleParser (see MemberRangeList) until they are modified,
+	// the getters never expose a modifiable list
 	private List<Event> events = Collections.emptyList();
 	private List<Field> fields = Collections.emptyList();
 	private List<MethodDef> methods = Collections.emptyList();
@@ -58,6 +61,16 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 
 	private DeclSecurity security;
 
+	// adds the members on first access if the module is parsed lazily
+	private volatile Runnable myMembersLoader;
+
+	// built on first lookup by name. The member lists are unmodifiable outside of the add/remove/set*Range methods,
+	// which drop the index (renaming a member does not drop it)
+	private volatile MemberNameIndex<Event> myEventIndex;
+	private volatile MemberNameIndex<Field> myFieldIndex;
+	private volatile MemberNameIndex<MethodDef> myMethodIndex;
+	private volatile MemberNameIndex<Property> myPropertyIndex;
+
 	/**
 	 * Constructs a TypeDef with the given namespace, name and flags
 	 *
@@ -168,6 +181,7 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public ClassLayout getClassLayout()
 	{
+		loadMembers();
 		return classLayout;
 	}
 
@@ -177,6 +191,7 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public void setClassLayout(ClassLayout lay)
 	{
+		loadMembers();
 		if((Flags & ClassSemanticsMask) != Interface)
 		{
 			classLayout = lay;
@@ -189,6 +204,7 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	@Override
 	public DeclSecurity getDeclSecurity()
 	{
+		loadMembers();
 		return security;
 	}
 
@@ -202,6 +218,7 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	@Override
 	public void setDeclSecurity(DeclSecurity decl)
 	{
+		loadMembers();
 		if(decl == null)
 		{
 			Flags &= ~HasSecurity;
@@ -280,11 +297,10 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public void addEvent(@Nonnull Event event)
 	{
-		if(events == Collections.<Event>emptyList())
-		{
-			events = new ArrayList<Event>();
-		}
+		loadMembers();
+		events = mutable(events);
 		events.add(event);
+		myEventIndex = null;
 	}
 
 	/**
@@ -295,24 +311,24 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public Event getEventByName(String name)
 	{
-		for(Event event : events)
+		loadMembers();
+		MemberNameIndex<Event> index = myEventIndex;
+		if(index == null)
 		{
-			if(event.getName().equals(name))
-			{
-				return event;
-			}
+			myEventIndex = index = MemberNameIndex.build(events, Event::getName);
 		}
-		return null;
+		return index.first(name);
 	}
 
 	/**
-	 * Returns all the events owned by this TypeDef.
+	 * Returns all the events owned by this TypeDef. The list is unmodifiable, use addEvent to add one.
 	 *
 	 * @return a non-null array of Events
 	 */
 	public List<Event> getEvents()
 	{
-		return events;
+		loadMembers();
+		return readOnly(events);
 	}
 
 	// Field methods ///////////////////////////////
@@ -325,11 +341,10 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public void addField(@Nonnull Field field)
 	{
-		if(fields == Collections.<Field>emptyList())
-		{
-			fields = new ArrayList<Field>();
-		}
+		loadMembers();
+		fields = mutable(fields);
 		fields.add(field);
+		myFieldIndex = null;
 		field.setParent(this);
 	}
 
@@ -341,24 +356,24 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public Field getFieldByName(String name)
 	{
-		for(Field f : fields)
+		loadMembers();
+		MemberNameIndex<Field> index = myFieldIndex;
+		if(index == null)
 		{
-			if(f.getName().equals(name))
-			{
-				return f;
-			}
+			myFieldIndex = index = MemberNameIndex.build(fields, Field::getName);
 		}
-		return null;
+		return index.first(name);
 	}
 
 	/**
-	 * Returns a list of all the fields owned by this TypeDef
+	 * Returns a list of all the fields owned by this TypeDef. The list is unmodifiable, use addField and removeField.
 	 *
 	 * @return a non-null array of fields
 	 */
 	public List<Field> getFields()
 	{
-		return fields;
+		loadMembers();
+		return readOnly(fields);
 	}
 
 	/**
@@ -369,8 +384,13 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public void removeField(Field field)
 	{
-		if(fields.remove(field))
+		loadMembers();
+		int index = fields.indexOf(field);
+		if(index != -1)
 		{
+			fields = mutable(fields);
+			fields.remove(index);
+			myFieldIndex = null;
 			field.setParent(null);
 		}
 	}
@@ -384,41 +404,59 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public void addMethod(@Nonnull MethodDef method)
 	{
-		if(methods == Collections.<MethodDef>emptyList())
-		{
-			methods = new ArrayList<MethodDef>();
-		}
+		loadMembers();
+		methods = mutable(methods);
 		methods.add(method);
+		myMethodIndex = null;
 		method.setParent(this);
 	}
 
 	/**
 	 * Returns the method whose name is 'name', or null if not found.
+	 * If the method is overloaded the first overload is returned, see getMethodsByName.
 	 *
 	 * @param name the name of the method, to be compared to Method.getName()
 	 * @return the specified method, or null if not found
 	 */
 	public MethodDef getMethodByName(String name)
 	{
-		for(MethodDef m : methods)
+		return getMethodIndex().first(name);
+	}
+
+	/**
+	 * Returns all the methods whose name is 'name' (the overloads), in the order of getMethods().
+	 *
+	 * @param name the name of the methods, to be compared to Method.getName()
+	 * @return an unmodifiable list, empty if there are no such methods
+	 */
+	@Nonnull
+	public List<MethodDef> getMethodsByName(String name)
+	{
+		return getMethodIndex().all(name);
+	}
+
+	@Nonnull
+	private MemberNameIndex<MethodDef> getMethodIndex()
+	{
+		loadMembers();
+		MemberNameIndex<MethodDef> index = myMethodIndex;
+		if(index == null)
 		{
-			if(m.getName().equals(name))
-			{
-				return m;
-			}
+			myMethodIndex = index = MemberNameIndex.build(methods, MethodDef::getName);
 		}
-		return null;
+		return index;
 	}
 
 	/**
-	 * Returns a list of all the methods owned by this TypeDef.
+	 * Returns a list of all the methods owned by this TypeDef. The list is unmodifiable, use addMethod to add one.
 	 *
 	 * @return a non-null array of methods
 	 */
 	@Nonnull
 	public List<MethodDef> getMethods()
 	{
-		return methods;
+		loadMembers();
+		return readOnly(methods);
 	}
 
 	// Property methods ////////////////////////////
@@ -430,11 +468,10 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public void addProperty(@Nonnull Property prop)
 	{
-		if(properties == Collections.<Property>emptyList())
-		{
-			properties = new ArrayList<Property>();
-		}
+		loadMembers();
+		properties = mutable(properties);
 		properties.add(prop);
+		myPropertyIndex = null;
 	}
 
 	/**
@@ -445,25 +482,25 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public Property getPropertyByName(String name)
 	{
-		for(Property p : properties)
+		loadMembers();
+		MemberNameIndex<Property> index = myPropertyIndex;
+		if(index == null)
 		{
-			if(p.getName().equals(name))
-			{
-				return p;
-			}
+			myPropertyIndex = index = MemberNameIndex.build(properties, Property::getName);
 		}
-		return null;
+		return index.first(name);
 	}
 
 	/**
-	 * Returns a list of properties owned by this TypeDef
+	 * Returns a list of properties owned by this TypeDef. The list is unmodifiable, use addProperty to add one.
 	 *
 	 * @return a non-null array of properties
 	 */
 	@Nonnull
 	public List<Property> getProperties()
 	{
-		return properties;
+		loadMembers();
+		return readOnly(properties);
 	}
 
 	// Interface methods /////////////////////////////////
@@ -475,6 +512,7 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public void addInterface(@Nonnull InterfaceImplementation inter)
 	{
+		loadMembers();
 		if(interfaces == Collections.<InterfaceImplementation>emptyList())
 		{
 			interfaces = new ArrayList<InterfaceImplementation>(5);
@@ -493,6 +531,7 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public boolean implementsInterface(TypeRef inter)
 	{
+		loadMembers();
 		// this method returns true iff
 		// 1. I am a class (not an interface)
 		// 2. inter is an interface
@@ -517,6 +556,7 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	@Nonnull
 	public List<InterfaceImplementation> getInterfaceImplementations()
 	{
+		loadMembers();
 		return interfaces;
 	}
 	//////////////////////////////////////////////////////
@@ -528,6 +568,7 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public MethodMap[] getMethodMaps()
 	{
+		loadMembers();
 		return methodMaps.toArray(new MethodMap[methodMaps.size()]);
 	}
 
@@ -539,6 +580,7 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public void addMethodMap(@Nonnull MethodMap map)
 	{
+		loadMembers();
 		if(methodMaps == Collections.<MethodMap>emptyList())
 		{
 			methodMaps = new ArrayList<MethodMap>();
@@ -553,6 +595,7 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	 */
 	public void removeMethodMap(@Nonnull MethodMap map)
 	{
+		loadMembers();
 		methodMaps.remove(map);
 	}
 	//////////////////////////
@@ -576,6 +619,7 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	@Override
 	public void addGenericParam(GenericParamDef genericParamDef)
 	{
+		loadMembers();
 		if(myGenericParamDefs == Collections.<GenericParamDef>emptyList())
 		{
 			myGenericParamDefs = new ArrayList<GenericParamDef>(5);
@@ -587,9 +631,166 @@ public class TypeDef extends TypeRef implements consulo.internal.dotnet.asm.mbel
 	@Override
 	public List<GenericParamDef> getGenericParams()
 	{
+		loadMembers();
 		return myGenericParamDefs;
 	}
 
+	@Override
+	public void addCustomAttribute(@Nonnull CustomAttribute ca)
+	{
+		loadMembers();
+		super.addCustomAttribute(ca);
+	}
+
+	@Nonnull
+	@Override
+	public List<CustomAttribute> getCustomAttributes()
+	{
+		loadMembers();
+		return super.getCustomAttributes();
+	}
+
+	@Override
+	public void removeCustomAttribute(@Nonnull CustomAttribute ca)
+	{
+		loadMembers();
+		super.removeCustomAttribute(ca);
+	}
+
+	/**
+	 * Sets the fields of this TypeDef to the rows [from, to) of the module-wide array, without copying them
+	 * (used only by ModuleParser). Also sets the parents of the fields.
+	 */
+	void setFieldRange(@Nonnull Field[] all, int from, int to)
+	{
+		if(from >= to)
+		{
+			return;
+		}
+		if(!fields.isEmpty())
+		{
+			for(int i = from; i < to; i++)
+			{
+				addField(all[i]);
+			}
+			return;
+		}
+
+		for(int i = from; i < to; i++)
+		{
+			all[i].setParent(this);
+		}
+		fields = new MemberRangeList<>(all, from, to);
+		myFieldIndex = null;
+	}
+
+	/**
+	 * Same as setFieldRange, for methods
+	 */
+	void setMethodRange(@Nonnull MethodDef[] all, int from, int to)
+	{
+		if(from >= to)
+		{
+			return;
+		}
+		if(!methods.isEmpty())
+		{
+			for(int i = from; i < to; i++)
+			{
+				addMethod(all[i]);
+			}
+			return;
+		}
+
+		for(int i = from; i < to; i++)
+		{
+			all[i].setParent(this);
+		}
+		methods = new MemberRangeList<>(all, from, to);
+		myMethodIndex = null;
+	}
+
+	/**
+	 * Same as setFieldRange, for properties
+	 */
+	void setPropertyRange(@Nonnull Property[] all, int from, int to)
+	{
+		if(from >= to)
+		{
+			return;
+		}
+		if(!properties.isEmpty())
+		{
+			for(int i = from; i < to; i++)
+			{
+				addProperty(all[i]);
+			}
+			return;
+		}
+
+		properties = new MemberRangeList<>(all, from, to);
+		myPropertyIndex = null;
+	}
+
+	/**
+	 * Same as setFieldRange, for events
+	 */
+	void setEventRange(@Nonnull Event[] all, int from, int to)
+	{
+		if(from >= to)
+		{
+			return;
+		}
+		if(!events.isEmpty())
+		{
+			for(int i = from; i < to; i++)
+			{
+				addEvent(all[i]);
+			}
+			return;
+		}
+
+		events = new MemberRangeList<>(all, from, to);
+		myEventIndex = null;
+	}
+
+	/**
+	 * Returns an unmodifiable view of a member list, so every change goes through the add/remove methods
+	 * (which drop the name indexes). Range views and the empty list are unmodifiable already.
+	 */
+	@Nonnull
+	private static <T> List<T> readOnly(@Nonnull List<T> list)
+	{
+		return list instanceof ArrayList ? Collections.unmodifiableList(list) : list;
+	}
+
+	/**
+	 * Returns the list itself if it can be modified, otherwise a modifiable copy (copy on write of the shared and empty lists)
+	 */
+	@Nonnull
+	private static <T> List<T> mutable(@Nonnull List<T> list)
+	{
+		return list instanceof ArrayList ? list : new ArrayList<T>(list);
+	}
+
+	/**
+	 * Sets the callback which adds the fields, methods, properties, events, interfaces, method maps, generic parameters,
+	 * layout, security and custom attributes of this TypeDef on first access to any of them (used only by ModuleParser in lazy mode)
+	 */
+	void setMembersLoader(@Nullable Runnable loader)
+	{
+		myMembersLoader = loader;
+	}
+
+	private void loadMembers()
+	{
+		Runnable loader = myMembersLoader;
+		if(loader != null)
+		{
+			loader.run();
+		}
+	}
+
 	public TypeDef getParent()
 	{
 		return myParent;
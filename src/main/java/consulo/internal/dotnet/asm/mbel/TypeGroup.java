@@ -19,6 +19,8 @@
 
 package consulo.internal.dotnet.asm.mbel;
 
+import jakarta.annotation.Nullable;
+
 /**
  * This class is just a container for the various types defined in a module.
  * It is used by the parser to pass around all the types, without glutting each method's
@@ -31,6 +33,7 @@ public class TypeGroup
 	private TypeDef[] typeDefs;
 	private TypeRef[] typeRefs;
 	private TypeSpec[] typeSpecs;
+	private TypeNameIndex myTypeNameIndex;
 
 	/**
 	 * Makes a new TypeGroup for the given defs, refs, and specs.
@@ -46,6 +49,17 @@ public class TypeGroup
 		typeSpecs = spec;
 	}
 
+	/**
+	 * Makes a new TypeGroup for the given defs, refs, and specs, with the name index of the module.
+	 *
+	 * @param index the index of the top-level types defined and exported by the module
+	 */
+	public TypeGroup(TypeDef[] def, TypeRef[] ref, TypeSpec[] spec, @Nullable TypeNameIndex index)
+	{
+		this(def, ref, spec);
+		myTypeNameIndex = index;
+	}
+
 	/**
 	 * Returns the TypeDef list
 	 */
@@ -69,4 +83,13 @@ public class TypeGroup
 	{
 		return typeSpecs;
 	}
+
+	/**
+	 * Returns the index of the top-level types by namespace and name, or null if this group was made without one
+	 */
+	@Nullable
+	public TypeNameIndex getTypeNameIndex()
+	{
+		return myTypeNameIndex;
+	}
 }
@@ -0,0 +1,247 @@
+package consulo.internal.dotnet.asm.mbel;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the types a module defines and exports.
+ * Top-level types are indexed by (namespace, name) and by namespace, nested types by (enclosing type, name).
+ * <p/>
+ * Top-level types are keyed by name, so a lookup neither allocates nor scans: the few types sharing a name
+ * (in different namespaces) are told apart afterwards. If a name is defined twice in the same scope
+ * (invalid metadata) the last definition wins. Renaming or re-nesting an indexed type does not update the index.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public final class TypeNameIndex
+{
+	/**
+	 * Separates nested type names in a type path, as in reflection names ("Namespace.Outer+Inner")
+	 */
+	public static final char NESTED_SEPARATOR = '+';
+
+	// name -> TypeRef, or TypeRef[] if several namespaces define the name
+	private final Map<String, Object> myTypeDefs;
+	private final Map<String, Object> myExportedTypes;
+	private final Map<NestedKey, TypeDef> myNestedTypes = new HashMap<>();
+	// namespace -> top-level TypeDefs in table order
+	private final Map<String, List<TypeDef>> myNamespaces = new LinkedHashMap<>();
+
+	public TypeNameIndex(@Nullable TypeDef[] typeDefs, @Nullable ExportedTypeRef[] exportedTypes)
+	{
+		myTypeDefs = new HashMap<>(typeDefs == null ? 16 : typeDefs.length * 2);
+		myExportedTypes = new HashMap<>(exportedTypes == null ? 16 : exportedTypes.length * 2);
+		if(typeDefs != null)
+		{
+			for(TypeDef typeDef : typeDefs)
+			{
+				addTypeDef(typeDef);
+			}
+		}
+		if(exportedTypes != null)
+		{
+			for(ExportedTypeRef exportedType : exportedTypes)
+			{
+				if(exportedType != null && exportedType.getExportedTypeRef() == null)
+				{
+					put(myExportedTypes, exportedType);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Indexes a TypeDef, nested types must have their parent set already
+	 */
+	public void addTypeDef(@Nullable TypeDef typeDef)
+	{
+		if(typeDef == null)
+		{
+			return;
+		}
+
+		if(typeDef.getParent() != null)
+		{
+			myNestedTypes.put(new NestedKey(typeDef.getParent(), typeDef.getName()), typeDef);
+			return;
+		}
+
+		put(myTypeDefs, typeDef);
+		myNamespaces.computeIfAbsent(namespaceOf(typeDef), it -> new ArrayList<>()).add(typeDef);
+	}
+
+	/**
+	 * Returns the top-level TypeDef with the given namespace and name, or null
+	 *
+	 * @param namespace the namespace, empty for the global namespace
+	 */
+	@Nullable
+	public TypeDef findTypeDef(@Nonnull String namespace, @Nonnull String name)
+	{
+		return (TypeDef) get(myTypeDefs, namespace, name);
+	}
+
+	/**
+	 * Returns the TypeDef nested directly in the given type with the given name, or null
+	 */
+	@Nullable
+	public TypeDef findNestedTypeDef(@Nonnull TypeDef enclosing, @Nonnull String name)
+	{
+		return myNestedTypes.get(new NestedKey(enclosing, name));
+	}
+
+	/**
+	 * Returns the TypeDef with the given path, or null.
+	 * A path is the full name of a top-level type, followed by the names of the nested types separated with '+'
+	 * (i.e. "System.Collections.Generic.List`1+Enumerator"). The namespace is everything before the last '.' of the top-level name.
+	 */
+	@Nullable
+	public TypeDef findTypeDef(@Nonnull String path)
+	{
+		int end = path.indexOf(NESTED_SEPARATOR);
+		String topLevel = end == -1 ? path : path.substring(0, end);
+
+		int dot = topLevel.lastIndexOf('.');
+		TypeDef typeDef = dot == -1 ? findTypeDef("", topLevel) : findTypeDef(topLevel.substring(0, dot), topLevel.substring(dot + 1));
+		if(typeDef == null && dot != -1)
+		{
+			// compiler generated types may have dots in their names
+			typeDef = findTypeDef("", topLevel);
+		}
+
+		while(typeDef != null && end != -1)
+		{
+			int start = end + 1;
+			end = path.indexOf(NESTED_SEPARATOR, start);
+			typeDef = findNestedTypeDef(typeDef, end == -1 ? path.substring(start) : path.substring(start, end));
+		}
+		return typeDef;
+	}
+
+	/**
+	 * Returns the namespaces that have top-level types, in order of their first type. The global namespace is "".
+	 */
+	@Nonnull
+	public Set<String> getNamespaces()
+	{
+		return Collections.unmodifiableSet(myNamespaces.keySet());
+	}
+
+	/**
+	 * Returns the top-level TypeDefs of the namespace in table order, empty if there are none
+	 */
+	@Nonnull
+	public List<TypeDef> getTypeDefs(@Nonnull String namespace)
+	{
+		List<TypeDef> typeDefs = myNamespaces.get(namespace);
+		return typeDefs == null ? Collections.<TypeDef>emptyList() : Collections.unmodifiableList(typeDefs);
+	}
+
+	/**
+	 * Returns the top-level ExportedType with the given namespace and name, or null
+	 */
+	@Nullable
+	public ExportedTypeRef findExportedType(@Nonnull String namespace, @Nonnull String name)
+	{
+		return (ExportedTypeRef) get(myExportedTypes, namespace, name);
+	}
+
+	private static void put(Map<String, Object> map, TypeRef type)
+	{
+		Object old = map.putIfAbsent(type.getName(), type);
+		if(old == null)
+		{
+			return;
+		}
+
+		if(old instanceof TypeRef && namespaceOf((TypeRef) old).equals(namespaceOf(type)))
+		{
+			map.put(type.getName(), type);
+			return;
+		}
+
+		TypeRef[] types = old instanceof TypeRef ? new TypeRef[]{(TypeRef) old} : (TypeRef[]) old;
+		for(int i = 0; i < types.length; i++)
+		{
+			if(namespaceOf(types[i]).equals(namespaceOf(type)))
+			{
+				types[i] = type;
+				map.put(type.getName(), types);
+				return;
+			}
+		}
+
+		TypeRef[] newTypes = new TypeRef[types.length + 1];
+		System.arraycopy(types, 0, newTypes, 0, types.length);
+		newTypes[types.length] = type;
+		map.put(type.getName(), newTypes);
+	}
+
+	@Nullable
+	private static TypeRef get(Map<String, Object> map, String namespace, String name)
+	{
+		Object value = map.get(name);
+		if(value instanceof TypeRef)
+		{
+			return namespace.equals(namespaceOf((TypeRef) value)) ? (TypeRef) value : null;
+		}
+		if(value != null)
+		{
+			for(TypeRef type : (TypeRef[]) value)
+			{
+				if(namespace.equals(namespaceOf(type)))
+				{
+					return type;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Nonnull
+	private static String namespaceOf(TypeRef type)
+	{
+		String namespace = type.getNamespace();
+		return namespace == null ? "" : namespace;
+	}
+
+	/**
+	 * Nested names repeat across enclosing types ("Enumerator", "<>c"), so they are keyed by the pair
+	 */
+	private static final class NestedKey
+	{
+		private final TypeDef myEnclosing;
+		private final String myName;
+
+		NestedKey(TypeDef enclosing, String name)
+		{
+			myEnclosing = enclosing;
+			myName = name;
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if(!(obj instanceof NestedKey))
+			{
+				return false;
+			}
+			NestedKey other = (NestedKey) obj;
+			return myEnclosing == other.myEnclosing && myName.equals(other.myName);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return System.identityHashCode(myEnclosing) * 31 + myName.hashCode();
+		}
+	}
+}
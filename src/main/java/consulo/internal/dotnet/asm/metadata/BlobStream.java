@@ -19,8 +19,11 @@
 
 package consulo.internal.dotnet.asm.metadata;
 
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.io.MSILInputStream;
 
+import jakarta.annotation.Nonnull;
+
 import java.io.IOException;
 
 /**
@@ -96,37 +99,58 @@ public class BlobStream
 	 * Returns the blob starting at the given offset
 	 */
 	public byte[] getBlobByOffset(long offset)
+	{
+		return getBlobReaderByOffset(offset).toByteArray();
+	}
+
+	/**
+	 * Returns a reader over the blob starting at the given offset. The blob is not copied.
+	 */
+	@Nonnull
+	public BlobReader getBlobReaderByOffset(long offset)
 	{
 		if(offset < 0 || offset >= raw_bytes.length)
 		{
-			return new byte[0];
+			return new BlobReader();
 		}
 		int off = (int) offset;
-		int length = raw_bytes[off] & 0xFF;
-		int start = off + 1;
+		int start = off + lengthPrefixSize(raw_bytes[off]);
+		int length = readLength(raw_bytes, off);
+		return new BlobReader(raw_bytes, start, length);
+	}
+
+	/**
+	 * Returns the size in bytes (1, 2 or 4) of the PackedLen blob length starting with the given byte
+	 */
+	static int lengthPrefixSize(byte first)
+	{
+		if((first & 0xE0) == 0xC0)
+		{
+			return 4;
+		}
+		return (first & 0xC0) == 0x80 ? 2 : 1;
+	}
+
+	/**
+	 * Decodes the PackedLen blob length at the given offset
+	 */
+	static int readLength(byte[] bytes, int offset)
+	{
+		int length = bytes[offset] & 0xFF;
 		if((length & 0xE0) == 0xC0)
 		{
 			// 4 byte length
 			length = (length & 0x3F) << 24;
-			length |= (((int) raw_bytes[off + 1]) & 0xFF) << 16;
-			length |= (((int) raw_bytes[off + 2]) & 0xFF) << 8;
-			length |= (((int) raw_bytes[off + 3]) & 0xFF);
-			start = off + 4;
+			length |= (bytes[offset + 1] & 0xFF) << 16;
+			length |= (bytes[offset + 2] & 0xFF) << 8;
+			length |= (bytes[offset + 3] & 0xFF);
 		}
 		else if((length & 0xC0) == 0x80)
 		{
 			length = (length & 0x7F) << 8;
-			length |= (((int) raw_bytes[off + 1]) & 0xFF);
-			start = off + 2;
+			length |= (bytes[offset + 1] & 0xFF);
 		}
-
-		byte[] result = new byte[length];
-		for(int i = 0; i < length; i++)
-		{
-			result[i] = raw_bytes[start + i];
-		}
-
-		return result;
+		return length;
 	}
 
 /*
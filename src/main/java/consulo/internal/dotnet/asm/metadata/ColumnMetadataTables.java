@@ -0,0 +1,36 @@
+package consulo.internal.dotnet.asm.metadata;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Column-oriented copy of the metadata tables: every column of every parsed table is a plain int array
+ * indexed by 0-based row. Tables that are absent or were not parsed have no rows.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+class ColumnMetadataTables extends MetadataTables
+{
+	// [table][column][row], null when table has no rows or was not parsed
+	private final int[][][] myColumns;
+	private final int[] myRowCounts;
+
+	ColumnMetadataTables(@Nonnull TableConstants tableConstants, @Nonnull int[][][] columns, @Nonnull int[] rowCounts)
+	{
+		super(tableConstants);
+		myColumns = columns;
+		myRowCounts = rowCounts;
+	}
+
+	@Override
+	public int getRowCount(int table)
+	{
+		return myRowCounts[table];
+	}
+
+	@Override
+	public int getInt(int table, int row, int column)
+	{
+		return myColumns[table][column][row];
+	}
+}
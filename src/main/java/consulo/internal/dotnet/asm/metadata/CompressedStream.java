@@ -36,6 +36,12 @@ public class CompressedStream
 	public static final int STRINGS_MASK = 0x01;
 	public static final int GUID_MASK = 0x02;
 	public static final int BLOB_MASK = 0x04;
+	// the tables are an Edit-and-Continue delta
+	public static final int DELTA_MASK = 0x20;
+	// a 4 byte value follows the row counts
+	public static final int EXTRA_DATA_MASK = 0x40;
+	// rows may be marked as deleted (#- streams only)
+	public static final int DELETED_MASK = 0x80;
 	//////////////////////////////////////////////
 
 	public int Major;                  // 1byte
@@ -77,6 +83,10 @@ public class CompressedStream
 				Counts[i] = 0L;
 			}
 		}
+		if((Heaps & EXTRA_DATA_MASK) != 0)
+		{
+			in.readDWORD();
+		}
 		tableStartFP = in.getCurrent();
 	}
 
@@ -88,6 +98,14 @@ public class CompressedStream
 		return ((Heaps & STRINGS_MASK) != 0 ? 4 : 2);
 	}
 
+	/**
+	 * Returns true if the tables are an Edit-and-Continue delta, see MetadataDelta
+	 */
+	public boolean isDelta()
+	{
+		return (Heaps & DELTA_MASK) != 0;
+	}
+
 	/**
 	 * Returns the number of bytes in a #GUID stream token
 	 */
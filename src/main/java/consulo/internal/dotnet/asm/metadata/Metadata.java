@@ -22,8 +22,12 @@ package consulo.internal.dotnet.asm.metadata;
 import consulo.internal.dotnet.asm.io.ByteBuffer;
 import consulo.internal.dotnet.asm.io.MSILInputStream;
 import consulo.internal.dotnet.asm.parse.MSILParseException;
+import consulo.internal.dotnet.asm.util.StringUtil;
 
+import jakarta.annotation.Nullable;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This class contains the raw form of the metadata in a .NET module.
@@ -39,6 +43,8 @@ public class Metadata
 	private static final String US_STREAM_NAME = "#us";
 	private static final String COMPRESSED_STREAM_NAME = "#~";
 	private static final String UNCOMPRESSED_STREAM_NAME = "#-";
+	// empty marker stream of minimal EnC deltas, all table and heap indexes are 4 bytes there
+	private static final String MINIMAL_DELTA_STREAM_NAME = "#jtd";
 
 	///// Storage signature //////////////////////////
 	public long Signature;       // 4bytes (== MAGIC)
@@ -131,10 +137,109 @@ public class Metadata
 		in.seek(end);
 	}
 
+	/**
+	 * Parses only the header of the ~ stream: the row counts, heap sizes and table layouts.
+	 * No heap is loaded and no table is decoded, cells are read on demand through
+	 * TableConstants.createTableReader and heap values through readHeapString and readHeapBlob.
+	 */
+	public TableConstants parseTableHeader(MSILInputStream in) throws IOException, MSILParseException
+	{
+		StreamHeader header = findStreamHeader(COMPRESSED_STREAM_NAME, UNCOMPRESSED_STREAM_NAME);
+		if(header == null)
+		{
+			throw new MSILParseException("Metadata: ~ or - stream not found");
+		}
+
+		in.seek(startFP + header.Offset);
+		boolean largeIndexes = findStreamHeader(MINIMAL_DELTA_STREAM_NAME, null) != null;
+		return new TableConstants(new CompressedStream(in), null, null, null, null, largeIndexes);
+	}
+
+	/**
+	 * Reads a string straight from the #Strings heap in the input stream, without loading the heap
+	 *
+	 * @param offset the byte offset of the string in the #Strings heap
+	 * @return the string, or "" if there is no such string
+	 */
+	public String readHeapString(MSILInputStream in, long offset) throws IOException
+	{
+		StreamHeader header = findStreamHeader(STRINGS_STREAM_NAME, null);
+		if(header == null || offset < 0 || offset >= header.Size)
+		{
+			return StringUtil.EMPTY;
+		}
+
+		// copies a growing window of the heap until it contains the terminator
+		java.nio.ByteBuffer heap = in.slice(startFP + header.Offset, (int) header.Size);
+		int start = (int) offset;
+		byte[] bytes = new byte[Math.min(64, heap.limit() - start)];
+		heap.position(start);
+		heap.get(bytes);
+		int end = StringUtil.indexOfZero(bytes, 0, bytes.length);
+		while(end == bytes.length && start + bytes.length < heap.limit())
+		{
+			int searched = bytes.length;
+			bytes = Arrays.copyOf(bytes, Math.min(searched * 2, heap.limit() - start));
+			heap.get(bytes, searched, bytes.length - searched);
+			end = StringUtil.indexOfZero(bytes, searched, bytes.length);
+		}
+		return StringsStream.decode(bytes, 0, end);
+	}
+
+	/**
+	 * Reads a blob straight from the #Blob heap in the input stream, without loading the heap
+	 *
+	 * @param offset the byte offset of the blob in the #Blob heap
+	 * @return the blob, empty if there is no such blob
+	 */
+	public byte[] readHeapBlob(MSILInputStream in, long offset) throws IOException
+	{
+		StreamHeader header = findStreamHeader(BLOB_STREAM_NAME, null);
+		if(header == null || offset < 0 || offset >= header.Size)
+		{
+			return new byte[0];
+		}
+
+		java.nio.ByteBuffer heap = in.slice(startFP + header.Offset, (int) header.Size);
+		byte[] prefix = new byte[4];
+		heap.position((int) offset);
+		heap.get(prefix, 0, Math.min(prefix.length, heap.remaining()));
+		int start = (int) offset + BlobStream.lengthPrefixSize(prefix[0]);
+		int length = BlobStream.readLength(prefix, 0);
+
+		byte[] blob = new byte[Math.max(0, Math.min(length, heap.limit() - start))];
+		heap.position(start);
+		heap.get(blob);
+		return blob;
+	}
+
+	private StreamHeader findStreamHeader(String name, String alternativeName)
+	{
+		for(int i = 0; i < Streams; i++)
+		{
+			String rcName = stream_headers[i].rcName;
+			if(rcName.equalsIgnoreCase(name) || alternativeName != null && rcName.equalsIgnoreCase(alternativeName))
+			{
+				return stream_headers[i];
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Parses the metadata tables and streams, and returns them in a TableConstant object.
+	 *
+	 * @param tableMask the tables to decode, see TableConstants.parseTables
+	 */
+	public TableConstants parseTableConstants(MSILInputStream in, long tableMask) throws IOException, MSILParseException
+	{
+		return parseTableConstants(in, tableMask, null);
+	}
+
+	/**
+	 * Same as parseTableConstants(in, tableMask), decoding the tables on the given pool if it is not null
 	 */
-	public TableConstants parseTableConstants(MSILInputStream in, int tableIndexStop) throws IOException, MSILParseException
+	public TableConstants parseTableConstants(MSILInputStream in, long tableMask, @Nullable ForkJoinPool pool) throws IOException, MSILParseException
 	{
 		StringsStream strings_stream = null;
 		BlobStream blob_stream = null;
@@ -192,9 +297,10 @@ public class Metadata
 			throw new MSILParseException("Metadata: ~ or - stream not found");
 		}
 
-		TableConstants tc = new TableConstants(c_stream, strings_stream, blob_stream, guid_stream, us_stream);
+		boolean largeIndexes = findStreamHeader(MINIMAL_DELTA_STREAM_NAME, null) != null;
+		TableConstants tc = new TableConstants(c_stream, strings_stream, blob_stream, guid_stream, us_stream, largeIndexes);
 		in.seek(c_stream.tableStartFP);
-		tc.parseTables(in, tableIndexStop);
+		tc.parseTables(in, tableMask, pool);
 		return tc;
 	}
 
@@ -261,17 +367,18 @@ class StreamHeader
 		Offset = in.readDWORD();
 		Size = in.readDWORD();
 
-		StringBuilder builder = new StringBuilder(NAME_LENGTH);
-		for(int i = 0; i < NAME_LENGTH; i++)
+		byte[] name = new byte[NAME_LENGTH];
+		int length = 0;
+		while(length < NAME_LENGTH)
 		{
 			int temp = in.readBYTE();
 			if(temp == 0)
 			{
 				break;
 			}
-			builder.append((char) temp);
+			name[length++] = (byte) temp;
 		}
-		rcName = builder.toString();
+		rcName = StringUtil.decodeUtf8(name, 0, length);
 	}
 
 	public StreamHeader(long offset, long size, String name)
@@ -0,0 +1,147 @@
+package consulo.internal.dotnet.asm.metadata;
+
+import consulo.internal.dotnet.asm.io.MSILInputStream;
+import consulo.internal.dotnet.asm.parse.MSILParseException;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * An Edit-and-Continue (hot reload) metadata delta: the metadata root emitted for one edit,
+ * read on top of the module it applies to.
+ * <p/>
+ * The tables of a delta only hold the added and changed rows. The ENCMap table lists the tokens of all those rows
+ * (sorted, so in table order), which maps every delta row to the row of the aggregated module it replaces or appends,
+ * and the ENCLog table lists the edit operations. Cells keep aggregated values: table indexes are rows of the
+ * aggregated module, heap offsets continue the heaps of the previous generations (see TableConstants.setPreviousGeneration).
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public final class MetadataDelta
+{
+	/**
+	 * ENCLog operations, the entry after an Add* entry is the added row
+	 */
+	public static final int FUNC_DEFAULT = 0;
+	public static final int FUNC_ADD_METHOD = 1;
+	public static final int FUNC_ADD_FIELD = 2;
+	public static final int FUNC_ADD_PARAMETER = 3;
+	public static final int FUNC_ADD_PROPERTY = 4;
+	public static final int FUNC_ADD_EVENT = 5;
+
+	private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+	/**
+	 * Parses a delta
+	 *
+	 * @param metadata           the metadata root of the delta (starting with the BSJB signature)
+	 * @param previousGeneration the tables of the module (or of the last applied delta) this delta applies to
+	 */
+	@Nonnull
+	public static MetadataDelta parse(@Nonnull byte[] metadata, @Nonnull TableConstants previousGeneration) throws IOException, MSILParseException
+	{
+		try (MSILInputStream in = new MSILInputStream(metadata))
+		{
+			TableConstants tc = new Metadata(in).parseTableConstants(in, TableConstants.ALL_TABLES);
+			tc.setPreviousGeneration(previousGeneration);
+			return new MetadataDelta(tc);
+		}
+	}
+
+	private final TableConstants myTableConstants;
+	private final MetadataTables myTables;
+	// aggregated tokens of the delta rows by table
+	private final int[][] myRowTokens = new int[64][];
+
+	private MetadataDelta(@Nonnull TableConstants tableConstants) throws MSILParseException
+	{
+		myTableConstants = tableConstants;
+		myTables = tableConstants.getTables();
+
+		int mapCount = myTables.getRowCount(TableConstants.ENCMap);
+		int[] counts = new int[64];
+		for(int row = 0; row < mapCount; row++)
+		{
+			counts[TableConstants.tableOf(myTables.getLong(TableConstants.ENCMap, row, TableColumns.ENCMap.TOKEN))]++;
+		}
+
+		for(int table = 0; table < 64; table++)
+		{
+			if(table == TableConstants.ENCLog || table == TableConstants.ENCMap)
+			{
+				myRowTokens[table] = EMPTY_INT_ARRAY;
+				continue;
+			}
+			if(counts[table] != myTables.getRowCount(table))
+			{
+				throw new MSILParseException("MetadataDelta: ENCMap lists " + counts[table] + " rows of table " + table + ", but it has " + myTables.getRowCount(table));
+			}
+			myRowTokens[table] = counts[table] == 0 ? EMPTY_INT_ARRAY : new int[counts[table]];
+		}
+
+		Arrays.fill(counts, 0);
+		for(int row = 0; row < mapCount; row++)
+		{
+			int token = myTables.getInt(TableConstants.ENCMap, row, TableColumns.ENCMap.TOKEN);
+			int table = TableConstants.tableOf(token);
+			myRowTokens[table][counts[table]++] = token;
+		}
+	}
+
+	/**
+	 * Returns the tables of the delta, heap lookups see the heaps of all generations
+	 */
+	@Nonnull
+	public TableConstants getTableConstants()
+	{
+		return myTableConstants;
+	}
+
+	@Nonnull
+	public MetadataTables getTables()
+	{
+		return myTables;
+	}
+
+	/**
+	 * Returns the aggregated token of a delta row
+	 *
+	 * @param row 0-based row index in the delta table
+	 */
+	public int getToken(int table, int row)
+	{
+		return myRowTokens[table][row];
+	}
+
+	/**
+	 * Returns the delta row holding the given aggregated token, or -1 if the delta does not touch it
+	 */
+	public int getRow(long token)
+	{
+		int row = Arrays.binarySearch(myRowTokens[TableConstants.tableOf(token)], (int) token);
+		return row < 0 ? -1 : row;
+	}
+
+	public int getLogCount()
+	{
+		return myTables.getRowCount(TableConstants.ENCLog);
+	}
+
+	/**
+	 * Returns the token of an ENCLog entry
+	 */
+	public long getLogToken(int index)
+	{
+		return myTables.getLong(TableConstants.ENCLog, index, TableColumns.ENCLog.TOKEN);
+	}
+
+	/**
+	 * Returns the operation of an ENCLog entry (one of FUNC_* constants)
+	 */
+	public int getLogOperation(int index)
+	{
+		return myTables.getInt(TableConstants.ENCLog, index, TableColumns.ENCLog.FUNC_CODE);
+	}
+}
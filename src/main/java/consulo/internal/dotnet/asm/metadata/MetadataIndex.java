@@ -0,0 +1,215 @@
+package consulo.internal.dotnet.asm.metadata;
+
+import jakarta.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Name index over the metadata tables of one module: TypeDef, TypeRef and ExportedType rows by (namespace, name)
+ * and MemberRef rows by name. It is built straight from the #Strings offsets of the raw table columns,
+ * so nothing is decoded, neither while building nor while querying - names are compared as UTF-8 bytes.
+ * <p/>
+ * Only the tables in TABLE_MASK are read, so a module can be indexed without being fully parsed:
+ * <pre>
+ * MetadataIndex index = MetadataIndex.build(module.metadata.parseTableConstants(in, MetadataIndex.TABLE_MASK).getTables());
+ * </pre>
+ * All rows are 0-based indexes (so RID - 1), the same as in MetadataTables.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public final class MetadataIndex
+{
+	/**
+	 * The tables an index is built from
+	 */
+	public static final long TABLE_MASK = TableConstants.tableMask(TableConstants.TypeDef, TableConstants.TypeRef, TableConstants.ExportedType, TableConstants.MemberRef);
+
+	private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+	@Nonnull
+	public static MetadataIndex build(@Nonnull MetadataTables tables)
+	{
+		return new MetadataIndex(tables);
+	}
+
+	private final MetadataTables myTables;
+	private final RowHashTable myTypeDefs;
+	private final RowHashTable myTypeRefs;
+	private final RowHashTable myExportedTypes;
+	private final RowHashTable myMemberRefs;
+
+	private MetadataIndex(@Nonnull MetadataTables tables)
+	{
+		myTables = tables;
+		myTypeDefs = buildTypeTable(TableConstants.TypeDef, TableColumns.TypeDef.NAMESPACE, TableColumns.TypeDef.NAME);
+		myTypeRefs = buildTypeTable(TableConstants.TypeRef, TableColumns.TypeRef.NAMESPACE, TableColumns.TypeRef.NAME);
+		myExportedTypes = buildTypeTable(TableConstants.ExportedType, TableColumns.ExportedType.TYPE_NAMESPACE, TableColumns.ExportedType.TYPE_NAME);
+
+		int count = tables.getRowCount(TableConstants.MemberRef);
+		myMemberRefs = new RowHashTable(count);
+		for(int row = 0; row < count; row++)
+		{
+			myMemberRefs.add(tables.getStringHash(TableConstants.MemberRef, row, TableColumns.MemberRef.NAME), row);
+		}
+	}
+
+	@Nonnull
+	private RowHashTable buildTypeTable(int table, int namespaceColumn, int nameColumn)
+	{
+		int count = myTables.getRowCount(table);
+		RowHashTable rows = new RowHashTable(count);
+		for(int row = 0; row < count; row++)
+		{
+			rows.add(typeHash(myTables.getStringHash(table, row, namespaceColumn), myTables.getStringHash(table, row, nameColumn)), row);
+		}
+		return rows;
+	}
+
+	@Nonnull
+	public MetadataTables getTables()
+	{
+		return myTables;
+	}
+
+	/**
+	 * Returns the first TypeDef row with the given namespace and name, or -1.
+	 * Nested types have an empty namespace and can share their name with other nested types, see findTypeDefRows.
+	 *
+	 * @param namespace the namespace, empty for the global namespace and for nested types
+	 */
+	public int findTypeDefRow(@Nonnull CharSequence namespace, @Nonnull CharSequence name)
+	{
+		int[] rows = findTypeDefRows(namespace, name);
+		return rows.length == 0 ? -1 : rows[0];
+	}
+
+	/**
+	 * Returns all TypeDef rows with the given namespace and name, in table order
+	 */
+	@Nonnull
+	public int[] findTypeDefRows(@Nonnull CharSequence namespace, @Nonnull CharSequence name)
+	{
+		return findTypeRows(myTypeDefs, TableConstants.TypeDef, TableColumns.TypeDef.NAMESPACE, TableColumns.TypeDef.NAME, namespace, name);
+	}
+
+	/**
+	 * Returns all TypeRef rows with the given namespace and name, in table order.
+	 * There may be several, one per resolution scope.
+	 */
+	@Nonnull
+	public int[] findTypeRefRows(@Nonnull CharSequence namespace, @Nonnull CharSequence name)
+	{
+		return findTypeRows(myTypeRefs, TableConstants.TypeRef, TableColumns.TypeRef.NAMESPACE, TableColumns.TypeRef.NAME, namespace, name);
+	}
+
+	/**
+	 * Returns the first ExportedType row with the given namespace and name, or -1
+	 */
+	public int findExportedTypeRow(@Nonnull CharSequence namespace, @Nonnull CharSequence name)
+	{
+		int[] rows = findTypeRows(myExportedTypes, TableConstants.ExportedType, TableColumns.ExportedType.TYPE_NAMESPACE, TableColumns.ExportedType.TYPE_NAME, namespace, name);
+		return rows.length == 0 ? -1 : rows[0];
+	}
+
+	/**
+	 * Returns all MemberRef rows with the given name, in table order
+	 */
+	@Nonnull
+	public int[] findMemberRefRows(@Nonnull CharSequence name)
+	{
+		return myMemberRefs.find(Utf8Name.hash(name), row -> myTables.stringEquals(TableConstants.MemberRef, row, TableColumns.MemberRef.NAME, name));
+	}
+
+	/**
+	 * Returns true if the module defines or exports the given type
+	 */
+	public boolean definesType(@Nonnull CharSequence namespace, @Nonnull CharSequence name)
+	{
+		return findTypeDefRow(namespace, name) != -1 || findExportedTypeRow(namespace, name) != -1;
+	}
+
+	/**
+	 * Returns true if the module references the given type from another module or assembly
+	 */
+	public boolean referencesType(@Nonnull CharSequence namespace, @Nonnull CharSequence name)
+	{
+		return findTypeRefRows(namespace, name).length != 0;
+	}
+
+	/**
+	 * Returns true if the module references a field or method with the given name
+	 */
+	public boolean referencesMember(@Nonnull CharSequence name)
+	{
+		return findMemberRefRows(name).length != 0;
+	}
+
+	@Nonnull
+	private int[] findTypeRows(RowHashTable rows, int table, int namespaceColumn, int nameColumn, CharSequence namespace, CharSequence name)
+	{
+		int hash = typeHash(Utf8Name.hash(namespace), Utf8Name.hash(name));
+		return rows.find(hash, row -> myTables.stringEquals(table, row, nameColumn, name) && myTables.stringEquals(table, row, namespaceColumn, namespace));
+	}
+
+	private static int typeHash(int namespaceHash, int nameHash)
+	{
+		return namespaceHash * 31 + nameHash;
+	}
+
+	/**
+	 * Open-addressing multimap from a name hash to rows. The hash only narrows the candidates,
+	 * every candidate is verified against the #Strings heap.
+	 */
+	private static final class RowHashTable
+	{
+		private final int[] myHashes;
+		// row + 1, 0 is a free slot
+		private final int[] myRows;
+
+		RowHashTable(int expectedSize)
+		{
+			int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+			myHashes = new int[capacity];
+			myRows = new int[capacity];
+		}
+
+		void add(int hash, int row)
+		{
+			int mask = myRows.length - 1;
+			int i = slot(hash) & mask;
+			while(myRows[i] != 0)
+			{
+				i = (i + 1) & mask;
+			}
+			myHashes[i] = hash;
+			myRows[i] = row + 1;
+		}
+
+		@Nonnull
+		int[] find(int hash, @Nonnull IntPredicate predicate)
+		{
+			int[] result = EMPTY_INT_ARRAY;
+			int size = 0;
+			int mask = myRows.length - 1;
+			for(int i = slot(hash) & mask; myRows[i] != 0; i = (i + 1) & mask)
+			{
+				int row = myRows[i] - 1;
+				if(myHashes[i] == hash && predicate.test(row))
+				{
+					if(size == result.length)
+					{
+						result = Arrays.copyOf(result, Math.max(2, size * 2));
+					}
+					result[size++] = row;
+				}
+			}
+			return size == result.length ? result : Arrays.copyOf(result, size);
+		}
+
+		private static int slot(int hash)
+		{
+			return hash * 0x9E3779B9;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package consulo.internal.dotnet.asm.metadata;
+
+import jakarta.annotation.Nonnull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Random-access reader over the raw table data of the #~ stream.
+ * Any cell is read in O(1) through the precomputed {@link TableLayout}s, without decoding earlier rows.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public class MetadataTableReader extends MetadataTables
+{
+	private final ByteBuffer myData;
+
+	/**
+	 * @param tableConstants the table constants of the module
+	 * @param data           little-endian buffer starting at the first byte of the first table
+	 */
+	MetadataTableReader(@Nonnull TableConstants tableConstants, @Nonnull ByteBuffer data)
+	{
+		super(tableConstants);
+		myData = data;
+	}
+
+	@Override
+	public int getRowCount(int table)
+	{
+		return myTableConstants.getTableLayout(table).getRowCount();
+	}
+
+	@Override
+	public int getInt(int table, int row, int column)
+	{
+		TableLayout layout = myTableConstants.getTableLayout(table);
+		if(row < 0 || row >= layout.getRowCount())
+		{
+			throw new IndexOutOfBoundsException("Row " + row + " of table 0x" + Integer.toHexString(table) + " with " + layout.getRowCount() + " rows");
+		}
+		int position = (int) layout.getOffset() + row * layout.getRowSize() + layout.getColumnOffset(column);
+		return read(position, layout.getColumnSize(column));
+	}
+
+	/**
+	 * Reads a whole column of the table into the given array
+	 *
+	 * @param target the array to fill, must be at least as long as the table
+	 */
+	public void readColumn(int table, int column, @Nonnull int[] target)
+	{
+		readColumn(table, column, target, 0, getRowCount(table));
+	}
+
+	/**
+	 * Reads the rows [fromRow, toRow) of a column into the same positions of the given array.
+	 * Only absolute reads are used, so several threads may read from the same reader.
+	 */
+	public void readColumn(int table, int column, @Nonnull int[] target, int fromRow, int toRow)
+	{
+		TableLayout layout = myTableConstants.getTableLayout(table);
+		if(fromRow < 0 || toRow > layout.getRowCount() || fromRow > toRow)
+		{
+			throw new IndexOutOfBoundsException("Rows [" + fromRow + ", " + toRow + ") of table 0x" + Integer.toHexString(table) + " with " + layout.getRowCount() + " rows");
+		}
+		int rowSize = layout.getRowSize();
+		int size = layout.getColumnSize(column);
+		int position = (int) layout.getOffset() + fromRow * rowSize + layout.getColumnOffset(column);
+		for(int row = fromRow; row < toRow; row++, position += rowSize)
+		{
+			target[row] = read(position, size);
+		}
+	}
+
+	private int read(int position, int size)
+	{
+		switch(size)
+		{
+			case 1:
+				return myData.get(position) & 0xFF;
+			case 2:
+				return myData.getShort(position) & 0xFFFF;
+			default:
+				return myData.getInt(position);
+		}
+	}
+}
@@ -0,0 +1,280 @@
+package consulo.internal.dotnet.asm.metadata;
+
+import consulo.internal.dotnet.asm.io.BlobReader;
+import consulo.internal.dotnet.asm.metadata.genericTable.GenericTableDefinition;
+
+import jakarta.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * Cell access to the metadata tables.
+ * Rows are addressed by 0-based index (so RID - 1). Every cell is an unsigned value of up to 4 bytes:
+ * heap cells are the raw heap offset (GUID cells are the 1-based GUID index) and are only decoded
+ * when asked for, table and coded index cells are the raw value exactly as stored in the #~ stream.
+ * <p/>
+ * Column indexes are the positions of the fields in TableConstants.GRAMMAR_STRINGS, see TableColumns.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public abstract class MetadataTables
+{
+	private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+	protected final TableConstants myTableConstants;
+
+	protected MetadataTables(@Nonnull TableConstants tableConstants)
+	{
+		myTableConstants = tableConstants;
+	}
+
+	/**
+	 * Returns the index of the named column
+	 *
+	 * @param table the table number (i.e. TableConstants.TypeDef)
+	 * @param name  the name of the column as in the ECMA spec (i.e. "Flags")
+	 * @throws IllegalArgumentException if there is no such table or column
+	 */
+	public static int getColumnIndex(int table, @Nonnull String name)
+	{
+		GenericTableDefinition definition = null;
+		if(table >= 0 && table < TableConstants.GENERIC_TABLE_DEFINITIONS.length)
+		{
+			definition = TableConstants.GENERIC_TABLE_DEFINITIONS[table];
+		}
+		if(definition == null)
+		{
+			throw new IllegalArgumentException("Unknown table: " + table);
+		}
+		Integer index = definition.getNameToIndex().get(name);
+		if(index == null)
+		{
+			throw new IllegalArgumentException("Unknown column: " + name + " in " + definition.getName());
+		}
+		return index;
+	}
+
+	@Nonnull
+	public TableConstants getTableConstants()
+	{
+		return myTableConstants;
+	}
+
+	/**
+	 * Returns the number of available rows of the table, 0 if it is absent
+	 */
+	public abstract int getRowCount(int table);
+
+	/**
+	 * Returns the raw value of the cell, unsigned 4-byte values are returned as their int bits
+	 *
+	 * @param table  the table number (i.e. TableConstants.TypeDef)
+	 * @param row    0-based row index
+	 * @param column the column index (see getColumnIndex)
+	 */
+	public abstract int getInt(int table, int row, int column);
+
+	/**
+	 * Returns true if the table has no available rows
+	 */
+	public boolean isEmpty(int table)
+	{
+		return getRowCount(table) == 0;
+	}
+
+	/**
+	 * Returns the value of the cell as an unsigned 4-byte integer
+	 */
+	public long getLong(int table, int row, int column)
+	{
+		return getInt(table, row, column) & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * Decodes a #Strings heap column
+	 */
+	@Nonnull
+	public String getString(int table, int row, int column)
+	{
+		return myTableConstants.getString(getLong(table, row, column));
+	}
+
+	/**
+	 * Compares a #Strings heap column with the given value without decoding it
+	 */
+	public boolean stringEquals(int table, int row, int column, @Nonnull CharSequence value)
+	{
+		return myTableConstants.stringEquals(getLong(table, row, column), value);
+	}
+
+	/**
+	 * Returns Utf8Name.hash of a #Strings heap column without decoding it
+	 */
+	public int getStringHash(int table, int row, int column)
+	{
+		return myTableConstants.getStringHash(getLong(table, row, column));
+	}
+
+	/**
+	 * Copies a #Blob heap column
+	 */
+	@Nonnull
+	public byte[] getBlob(int table, int row, int column)
+	{
+		return myTableConstants.getBlob(getLong(table, row, column));
+	}
+
+	/**
+	 * Returns a reader over a #Blob heap column, the blob itself is not copied
+	 */
+	@Nonnull
+	public BlobReader getBlobReader(int table, int row, int column)
+	{
+		return myTableConstants.getBlobReader(getLong(table, row, column));
+	}
+
+	/**
+	 * Returns the GUID referenced by a #GUID heap column
+	 */
+	public byte[] getGUID(int table, int row, int column)
+	{
+		return myTableConstants.getGUID(getLong(table, row, column));
+	}
+
+	/**
+	 * Returns the rows of the CustomAttribute table whose Parent is the given metadata token
+	 *
+	 * @param token the token of the owner (i.e. 0x02000001 for the first TypeDef)
+	 * @return 0-based row indexes in table order, empty if there are none
+	 */
+	@Nonnull
+	public int[] customAttributesOf(long token)
+	{
+		return findRows(TableConstants.CustomAttribute, TableColumns.CustomAttribute.PARENT, codedKey(token, TableConstants.HasCustomAttribute));
+	}
+
+	/**
+	 * Returns the row of the Constant table whose Parent is the given Field, Param or Property token
+	 *
+	 * @return 0-based row index, or -1 if there is no constant
+	 */
+	public int constantOf(long token)
+	{
+		int[] rows = findRows(TableConstants.Constant, TableColumns.Constant.PARENT, codedKey(token, TableConstants.HasConst));
+		return rows.length == 0 ? -1 : rows[0];
+	}
+
+	/**
+	 * Returns all rows of the table whose coded index column points to the given metadata token
+	 *
+	 * @param codedIndexType the coded index of the column (i.e. TableConstants.HasDeclSecurity)
+	 * @return 0-based row indexes in table order, empty if there are none
+	 */
+	@Nonnull
+	public int[] findRows(int table, int column, int codedIndexType, long token)
+	{
+		return findRows(table, column, codedKey(token, codedIndexType));
+	}
+
+	/**
+	 * Returns all rows of the table whose key column equals the given raw value.
+	 * If the module declares the table as sorted the rows are found by binary search on the key column,
+	 * otherwise the column is scanned.
+	 *
+	 * @param table  the table number (i.e. TableConstants.CustomAttribute)
+	 * @param column the key column (i.e. TableColumns.CustomAttribute.PARENT)
+	 * @param key    the raw cell value, as returned by getInt
+	 * @return 0-based row indexes in table order, empty if there are none
+	 */
+	@Nonnull
+	public int[] findRows(int table, int column, int key)
+	{
+		int count = getRowCount(table);
+		if(count == 0 || key == -1)
+		{
+			return EMPTY_INT_ARRAY;
+		}
+
+		if(myTableConstants.isSorted(table))
+		{
+			int from = lowerBound(table, column, key);
+			int to = upperBound(table, column, key);
+			if(from == to)
+			{
+				return EMPTY_INT_ARRAY;
+			}
+			int[] rows = new int[to - from];
+			for(int i = 0; i < rows.length; i++)
+			{
+				rows[i] = from + i;
+			}
+			return rows;
+		}
+
+		int[] rows = EMPTY_INT_ARRAY;
+		int size = 0;
+		for(int row = 0; row < count; row++)
+		{
+			if(getInt(table, row, column) == key)
+			{
+				if(size == rows.length)
+				{
+					rows = Arrays.copyOf(rows, Math.max(4, size * 2));
+				}
+				rows[size++] = row;
+			}
+		}
+		return size == rows.length ? rows : Arrays.copyOf(rows, size);
+	}
+
+	/**
+	 * Returns the first row whose key column is not less than the key (unsigned compare).
+	 * The table must be sorted by the key column.
+	 */
+	public int lowerBound(int table, int column, int key)
+	{
+		int low = 0;
+		int high = getRowCount(table);
+		while(low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if(Integer.compareUnsigned(getInt(table, middle, column), key) < 0)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the first row whose key column is greater than the key (unsigned compare).
+	 * The table must be sorted by the key column.
+	 */
+	public int upperBound(int table, int column, int key)
+	{
+		int low = 0;
+		int high = getRowCount(table);
+		while(low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if(Integer.compareUnsigned(getInt(table, middle, column), key) <= 0)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private static int codedKey(long token, int codedIndexType)
+	{
+		return (int) TableConstants.buildCodedIndex(codedIndexType, TableConstants.tableOf(token), TableConstants.ridOf(token));
+	}
+}
@@ -20,13 +20,16 @@
 package consulo.internal.dotnet.asm.metadata;
 
 import consulo.internal.dotnet.asm.io.MSILInputStream;
+import consulo.internal.dotnet.asm.util.IntObjectMap;
+import consulo.internal.dotnet.asm.util.StringPool;
 import consulo.internal.dotnet.asm.util.StringUtil;
 
+import jakarta.annotation.Nullable;
 import java.io.IOException;
 
 /**
  * This class represents a stores the #Strings metadata heap.
- * Strings in this heap are ASCII, 8-bit, null-terminated strings.
+ * Strings in this heap are UTF-8, null-terminated strings.
  * The first string in this heap must always be null, so the first byte
  * in the #Strings heap is always 0.
  *
@@ -35,6 +38,9 @@ import java.io.IOException;
 public class StringsStream
 {
 	private byte[] raw_bytes;
+	// decoded strings by heap offset, so every row pointing at the same offset shares one String
+	private final IntObjectMap<String> myStrings = new IntObjectMap<>(1024);
+	private StringPool myStringPool;
 
 	/**
 	 * Parses a StringsStream from the given input stream, with the given size.
@@ -48,9 +54,18 @@ public class StringsStream
 		in.read(raw_bytes);
 	}
 
+	/**
+	 * Sets the pool which newly decoded strings are interned in, to share them with other modules
+	 */
+	public void setStringPool(@Nullable StringPool stringPool)
+	{
+		myStringPool = stringPool;
+	}
+
 	/**
 	 * Returns a string from the #Strings heap, index by byte offset.
 	 * These offset values appear in metadata tables.
+	 * Every offset is decoded only once, later calls return the same String instance.
 	 *
 	 * @param offset the byte offset at which the string starts (0-based)
 	 * @return the string in the #Strings heap at the given offset
@@ -62,12 +77,82 @@ public class StringsStream
 			return StringUtil.EMPTY;
 		}
 
-		StringBuilder builder = new StringBuilder();
-		for(int i = (int) offset; ((int) raw_bytes[i]) != 0; i++)
+		int start = (int) offset;
+		if(raw_bytes[start] == 0)
 		{
-			builder.append((char) (raw_bytes[i] & 0xFF));
+			return StringUtil.EMPTY;
 		}
-		return builder.toString();
+
+		synchronized(myStrings)
+		{
+			String value = myStrings.get(start);
+			if(value == null)
+			{
+				value = decode(raw_bytes, start, end(start));
+				if(myStringPool != null)
+				{
+					value = myStringPool.intern(value);
+				}
+				myStrings.put(start, value);
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Returns true if the string at the given offset is equal to the given value, without decoding it
+	 */
+	public boolean equalsByOffset(long offset, CharSequence value)
+	{
+		int start = start(offset);
+		return Utf8Name.equals(raw_bytes, start, end(start), value);
+	}
+
+	/**
+	 * Returns true if the strings at the given offsets are equal, without decoding them
+	 */
+	public boolean equalsByOffset(long offset1, long offset2)
+	{
+		int start1 = start(offset1);
+		int start2 = start(offset2);
+		return start1 == start2 || Utf8Name.equals(raw_bytes, start1, end(start1), raw_bytes, start2, end(start2));
+	}
+
+	/**
+	 * Returns Utf8Name.hash of the string at the given offset, without decoding it
+	 */
+	public int getHashByOffset(long offset)
+	{
+		int start = start(offset);
+		return Utf8Name.hash(raw_bytes, start, end(start));
+	}
+
+	/**
+	 * Returns a view of the string at the given offset, which shares the bytes of this heap
+	 */
+	public Utf8Name getNameByOffset(long offset)
+	{
+		int start = start(offset);
+		return new Utf8Name(raw_bytes, start, end(start));
+	}
+
+	// offsets outside of the heap are read as "", the same way getStringByOffset does
+	private int start(long offset)
+	{
+		return offset < 0 || offset >= raw_bytes.length ? 0 : (int) offset;
+	}
+
+	private int end(int start)
+	{
+		return StringUtil.indexOfZero(raw_bytes, start, raw_bytes.length);
+	}
+
+	/**
+	 * Decodes the bytes [start, end) of a #Strings heap entry (without the terminating 0), which are UTF-8
+	 */
+	static String decode(byte[] bytes, int start, int end)
+	{
+		return StringUtil.decodeUtf8(bytes, start, end);
 	}
 
 	/**
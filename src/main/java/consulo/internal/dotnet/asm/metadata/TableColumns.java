@@ -0,0 +1,323 @@
+package consulo.internal.dotnet.asm.metadata;
+
+/**
+ * Column indexes of the metadata tables, one nested interface per table.
+ * The values are the positions of the fields in TableConstants.GRAMMAR_STRINGS,
+ * so they can be passed to MetadataTables instead of looking the column up by name.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public interface TableColumns
+{
+	interface Module
+	{
+		int GENERATION = 0;
+		int NAME = 1;
+		int MVID = 2;
+		int ENC_ID = 3;
+		int ENC_BASE_ID = 4;
+	}
+
+	interface TypeRef
+	{
+		int RESOLUTION_SCOPE = 0;
+		int NAME = 1;
+		int NAMESPACE = 2;
+	}
+
+	interface TypeDef
+	{
+		int FLAGS = 0;
+		int NAME = 1;
+		int NAMESPACE = 2;
+		int EXTENDS = 3;
+		int FIELD_LIST = 4;
+		int METHOD_LIST = 5;
+	}
+
+	interface FieldPtr
+	{
+		int FIELD = 0;
+	}
+
+	interface Field
+	{
+		int FLAGS = 0;
+		int NAME = 1;
+		int SIGNATURE = 2;
+	}
+
+	interface MethodPtr
+	{
+		int METHOD = 0;
+	}
+
+	interface Method
+	{
+		int RVA = 0;
+		int IMPL_FLAGS = 1;
+		int FLAGS = 2;
+		int NAME = 3;
+		int SIGNATURE = 4;
+		int PARAM_LIST = 5;
+	}
+
+	interface ParamPtr
+	{
+		int PARAM = 0;
+	}
+
+	interface Param
+	{
+		int FLAGS = 0;
+		int SEQUENCE = 1;
+		int NAME = 2;
+	}
+
+	interface InterfaceImpl
+	{
+		int CLASS = 0;
+		int INTERFACE = 1;
+	}
+
+	interface MemberRef
+	{
+		int CLASS = 0;
+		int NAME = 1;
+		int SIGNATURE = 2;
+	}
+
+	interface Constant
+	{
+		int TYPE = 0;
+		int PADDING = 1;
+		int PARENT = 2;
+		int VALUE = 3;
+	}
+
+	interface CustomAttribute
+	{
+		int PARENT = 0;
+		int TYPE = 1;
+		int VALUE = 2;
+	}
+
+	interface FieldMarshal
+	{
+		int PARENT = 0;
+		int NATIVE_TYPE = 1;
+	}
+
+	interface DeclSecurity
+	{
+		int ACTION = 0;
+		int PARENT = 1;
+		int PERMISSION_SET = 2;
+	}
+
+	interface ClassLayout
+	{
+		int PACKING_SIZE = 0;
+		int CLASS_SIZE = 1;
+		int PARENT = 2;
+	}
+
+	interface FieldLayout
+	{
+		int OFFSET = 0;
+		int FIELD = 1;
+	}
+
+	interface StandAloneSig
+	{
+		int SIGNATURE = 0;
+	}
+
+	interface EventMap
+	{
+		int PARENT = 0;
+		int EVENT_LIST = 1;
+	}
+
+	interface EventPtr
+	{
+		int EVENT = 0;
+	}
+
+	interface Event
+	{
+		int EVENT_FLAGS = 0;
+		int NAME = 1;
+		int EVENT_TYPE = 2;
+	}
+
+	interface PropertyMap
+	{
+		int PARENT = 0;
+		int PROPERTY_LIST = 1;
+	}
+
+	interface PropertyPtr
+	{
+		int PROPERTY = 0;
+	}
+
+	interface Property
+	{
+		int FLAGS = 0;
+		int NAME = 1;
+		int TYPE = 2;
+	}
+
+	interface MethodSemantics
+	{
+		int SEMANTICS = 0;
+		int METHOD = 1;
+		int ASSOCIATION = 2;
+	}
+
+	interface MethodImpl
+	{
+		int CLASS = 0;
+		int METHOD_BODY = 1;
+		int METHOD_DECLARATION = 2;
+	}
+
+	interface ModuleRef
+	{
+		int NAME = 0;
+	}
+
+	interface TypeSpec
+	{
+		int SIGNATURE = 0;
+	}
+
+	interface ImplMap
+	{
+		int MAPPING_FLAGS = 0;
+		int MEMBER_FORWARDED = 1;
+		int IMPORT_NAME = 2;
+		int IMPORT_SCOPE = 3;
+	}
+
+	interface FieldRVA
+	{
+		int RVA = 0;
+		int FIELD = 1;
+	}
+
+	interface ENCLog
+	{
+		int TOKEN = 0;
+		int FUNC_CODE = 1;
+	}
+
+	interface ENCMap
+	{
+		int TOKEN = 0;
+	}
+
+	interface Assembly
+	{
+		int HASH_ALG_ID = 0;
+		int MAJOR_VERSION = 1;
+		int MINOR_VERSION = 2;
+		int BUILD_NUMBER = 3;
+		int REVISION_NUMBER = 4;
+		int FLAGS = 5;
+		int PUBLIC_KEY = 6;
+		int NAME = 7;
+		int CULTURE = 8;
+	}
+
+	interface AssemblyProcessor
+	{
+		int PROCESSOR = 0;
+	}
+
+	interface AssemblyOS
+	{
+		int OS_PLATFORM_ID = 0;
+		int OS_MAJOR_VERSION = 1;
+		int OS_MINOR_VERSION = 2;
+	}
+
+	interface AssemblyRef
+	{
+		int MAJOR_VERSION = 0;
+		int MINOR_VERSION = 1;
+		int BUILD_NUMBER = 2;
+		int REVISION_NUMBER = 3;
+		int FLAGS = 4;
+		int PUBLIC_KEY_OR_TOKEN = 5;
+		int NAME = 6;
+		int CULTURE = 7;
+		int HASH_VALUE = 8;
+	}
+
+	interface AssemblyRefProcessor
+	{
+		int PROCESSOR = 0;
+		int ASSEMBLY_REF = 1;
+	}
+
+	interface AssemblyRefOS
+	{
+		int OS_PLATFORM_ID = 0;
+		int OS_MAJOR_VERSION = 1;
+		int OS_MINOR_VERSION = 2;
+		int ASSEMBLY_REF = 3;
+	}
+
+	interface File
+	{
+		int FLAGS = 0;
+		int NAME = 1;
+		int HASH_VALUE = 2;
+	}
+
+	interface ExportedType
+	{
+		int FLAGS = 0;
+		int TYPE_DEF_ID = 1;
+		int TYPE_NAME = 2;
+		int TYPE_NAMESPACE = 3;
+		int IMPLEMENTATION = 4;
+	}
+
+	interface ManifestResource
+	{
+		int OFFSET = 0;
+		int FLAGS = 1;
+		int NAME = 2;
+		int IMPLEMENTATION = 3;
+	}
+
+	interface NestedClass
+	{
+		int NESTED_CLASS = 0;
+		int ENCLOSING_CLASS = 1;
+	}
+
+	interface GenericParam
+	{
+		int INDEX = 0;
+		int FLAGS = 1;
+		int PARENT = 2;
+		int NAME = 3;
+	}
+
+	interface MethodSpec
+	{
+		int METHOD = 0;
+		int INSTANTIATION = 1;
+	}
+
+	interface GenericParamConstraint
+	{
+		int PARENT = 0;
+		int CONSTRAINT = 1;
+	}
+}
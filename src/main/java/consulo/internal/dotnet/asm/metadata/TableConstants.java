@@ -19,13 +19,23 @@
 
 package consulo.internal.dotnet.asm.metadata;
 
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.io.MSILInputStream;
-import consulo.internal.dotnet.asm.mbel.GenericTableValues;
 import consulo.internal.dotnet.asm.metadata.genericTable.GenericTableDefinition;
+import consulo.internal.dotnet.asm.util.StringPool;
 import consulo.internal.dotnet.asm.util.StringUtil;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 /**
  * This class contains parsing methods and constants for dealing with metadata tables.
@@ -129,6 +139,12 @@ public class TableConstants
 	public static final int MethodSpec = 0x2b;
 	public static final int GenericParamConstraint = 0x2c;
 
+	// table mask which selects every metadata table (see parseTables)
+	public static final long ALL_TABLES = -1L;
+
+	// rows of one column decoded by a single task when the tables are parsed in parallel
+	private static final int PARALLEL_ROW_CHUNK = 16384;
+
 	public static final String[] GRAMMAR_STRINGS = new String[66];
 	public static final GenericTableDefinition[] GENERIC_TABLE_DEFINITIONS = new GenericTableDefinition[66];
 
@@ -341,7 +357,17 @@ public class TableConstants
 	private GUIDStream guid_stream;
 	private USStream us_stream;
 	private CompressedStream c_stream;
-	private GenericTableValue[][] tables;
+	private TableLayout[] layouts;
+	private long tablesSize;
+	private MetadataTables tables;
+	private final boolean myLargeIndexes;
+
+	// heaps of an EnC delta continue the heaps of the previous generations, see setPreviousGeneration
+	private TableConstants myPreviousGeneration;
+	private long myStringsStart;
+	private long myBlobStart;
+	private long myGUIDStart;
+	private long myUSStart;
 
 	/**
 	 * Makes a TableConstants with the given table sizes, heap sizes, and streams
@@ -353,6 +379,14 @@ public class TableConstants
 	 * @param usS      the #US stream
 	 */
 	public TableConstants(CompressedStream compS, StringsStream stringsS, BlobStream blobS, GUIDStream guidS, USStream usS)
+	{
+		this(compS, stringsS, blobS, guidS, usS, false);
+	}
+
+	/**
+	 * Same as above, if largeIndexes is true every table and heap index is 4 bytes wide (minimal EnC deltas)
+	 */
+	public TableConstants(CompressedStream compS, StringsStream stringsS, BlobStream blobS, GUIDStream guidS, USStream usS, boolean largeIndexes)
 	{
 		// tSizes must be at least 64 long
 		heapIndexSizes = new int[3];
@@ -362,10 +396,11 @@ public class TableConstants
 		blob_stream = blobS;
 		guid_stream = guidS;
 		us_stream = usS;
+		myLargeIndexes = largeIndexes;
 
-		heapIndexSizes[StringsHeap] = c_stream.getStringsIndexSize();
-		heapIndexSizes[GUIDHeap] = c_stream.getGUIDIndexSize();
-		heapIndexSizes[BlobHeap] = c_stream.getBlobIndexSize();
+		heapIndexSizes[StringsHeap] = largeIndexes ? 4 : c_stream.getStringsIndexSize();
+		heapIndexSizes[GUIDHeap] = largeIndexes ? 4 : c_stream.getGUIDIndexSize();
+		heapIndexSizes[BlobHeap] = largeIndexes ? 4 : c_stream.getBlobIndexSize();
 
 		INDEX_BITS = new int[TABLE_OPTIONS.length];
 		for(int j = 0; j < TABLE_OPTIONS.length; j++)
@@ -390,53 +425,221 @@ public class TableConstants
 				INDEX_BITS[j] = 0;
 			}
 		}
+
+		layouts = new TableLayout[64];
+		long offset = 0;
+		for(int i = 0; i < 64; i++)
+		{
+			layouts[i] = TableLayout.build(i, c_stream.Counts[i], offset, this);
+			offset += layouts[i].getSize();
+		}
+		tablesSize = offset;
 	}
 
 	/**
-	 * This method parses the metadata tables from the given input stream
+	 * Returns a table mask which selects only the given tables
 	 *
-	 * @param in             the input stream to read from
-	 * @param tableIndexStop
+	 * @param tables table numbers (i.e. TypeDef)
 	 */
-	public void parseTables(MSILInputStream in, int tableIndexStop) throws IOException
+	public static long tableMask(int... tables)
 	{
-		tables = new GenericTableValue[64][];
+		long mask = 0;
+		for(int table : tables)
+		{
+			mask |= 1L << table;
+		}
+		return mask;
+	}
+
+	/**
+	 * This method parses the metadata tables from the given input stream.
+	 * Tables which are not selected by the mask are skipped without being decoded,
+	 * and are reported as empty by the resulting MetadataTables.
+	 *
+	 * @param in        the input stream to read from
+	 * @param tableMask bit i selects table i, ALL_TABLES for every table
+	 */
+	public void parseTables(MSILInputStream in, long tableMask) throws IOException
+	{
+		parseTables(in, tableMask, null);
+	}
+
+	/**
+	 * Same as parseTables(in, tableMask), but if a pool is given the columns are decoded on it.
+	 * Columns of large tables are split into row ranges of PARALLEL_ROW_CHUNK rows.
+	 * Every task writes its own range of its own column, so the result does not depend on scheduling.
+	 *
+	 * @param pool the pool to decode on, or null to decode on the calling thread
+	 */
+	public void parseTables(MSILInputStream in, long tableMask, @Nullable ForkJoinPool pool) throws IOException
+	{
+		MetadataTableReader reader = createTableReader(in);
+
+		int[][][] columns = new int[64][][];
+		int[] rowCounts = new int[64];
+		List<Callable<Void>> tasks = new ArrayList<>();
 
 		for(int i = 0; i < 64; i++)
 		{
-			GenericTableDefinition grammar = GENERIC_TABLE_DEFINITIONS[i];
-
-			if(c_stream.Counts[i] > 0)
-			{ // if table is present
-				tables[i] = new GenericTableValue[(int) c_stream.Counts[i]];
-				for(int j = 0; j < c_stream.Counts[i]; j++)
+			TableLayout layout = layouts[i];
+			int count = layout.getRowCount();
+			if(count > 0 && (tableMask & (1L << i)) != 0)
+			{ // if table is present and requested
+				int[][] table = new int[layout.getColumnCount()][count];
+				for(int k = 0; k < table.length; k++)
 				{
-					if(grammar == null)
+					if(pool == null)
 					{
-						throw new IllegalArgumentException(i + " is bad index for grammar");
+						reader.readColumn(i, k, table[k]);
+						continue;
 					}
 
-					tables[i][j] = new GenericTableValue(grammar);
-					tables[i][j].parse(in, this);
+					for(int from = 0; from < count; from += PARALLEL_ROW_CHUNK)
+					{
+						final int tableIndex = i, column = k, fromRow = from, toRow = Math.min(count, from + PARALLEL_ROW_CHUNK);
+						final int[] target = table[k];
+						tasks.add(() ->
+						{
+							reader.readColumn(tableIndex, column, target, fromRow, toRow);
+							return null;
+						});
+					}
 				}
+
+				columns[i] = table;
+				rowCounts[i] = count;
 			}
+		}
 
-			if(tableIndexStop != -1 && tableIndexStop == i)
+		if(!tasks.isEmpty())
+		{
+			for(Future<Void> future : pool.invokeAll(tasks))
 			{
-				break;
+				try
+				{
+					future.get();
+				}
+				catch(InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					throw new IOException("TableConstants: Interrupted while decoding tables", e);
+				}
+				catch(ExecutionException e)
+				{
+					Throwable cause = e.getCause();
+					if(cause instanceof RuntimeException)
+					{
+						throw (RuntimeException) cause;
+					}
+					throw new IOException("TableConstants: Failed to decode tables", cause);
+				}
 			}
 		}
+
+		tables = new ColumnMetadataTables(this, columns, rowCounts);
+	}
+
+	/**
+	 * Returns a reader over the raw table data, which reads any cell straight from the #~ stream bytes.
+	 * The bytes are not copied and the file pointer of the input stream is not moved.
+	 */
+	@Nonnull
+	public MetadataTableReader createTableReader(MSILInputStream in) throws IOException
+	{
+		if(tablesSize > Integer.MAX_VALUE)
+		{
+			throw new IOException("TableConstants: Metadata tables are too big: " + tablesSize);
+		}
+		return new MetadataTableReader(this, in.slice(c_stream.tableStartFP, (int) tablesSize));
+	}
+
+	/**
+	 * Returns the precomputed row layout of the given table
+	 *
+	 * @param table table number (i.e. TypeDef)
+	 */
+	@Nonnull
+	public TableLayout getTableLayout(int table)
+	{
+		return layouts[table];
+	}
+
+	/**
+	 * Returns the total size in bytes of all tables in the #~ stream
+	 */
+	public long getTablesSize()
+	{
+		return tablesSize;
 	}
 
 	/**
 	 * Returns all the metadata tables (should not be called until after parseTables)
 	 */
 	@Nonnull
-	public GenericTableValues getTables()
+	public MetadataTables getTables()
 	{
-		GenericTableValue[][] tables = this.tables;
+		MetadataTables tables = this.tables;
 		this.tables = null;
-		return new GenericTableValues(tables);
+		return tables;
+	}
+
+	/**
+	 * Sets the pool which strings of the #Strings heap are interned in, see StringsStream.setStringPool
+	 */
+	public void setStringPool(@Nullable StringPool stringPool)
+	{
+		if(strings_stream != null)
+		{
+			strings_stream.setStringPool(stringPool);
+		}
+	}
+
+	/**
+	 * Makes the heaps of this (EnC delta) generation continue the heaps of the given generation:
+	 * heap offsets and GUID indexes below the aggregated heap sizes of the previous generations
+	 * are looked up there, the others are relative to the end of them.
+	 *
+	 * @param previous the TableConstants of the previous generation, or null for the base module
+	 */
+	public void setPreviousGeneration(@Nullable TableConstants previous)
+	{
+		myPreviousGeneration = previous;
+		myStringsStart = previous == null ? 0 : previous.getStringsHeapEnd();
+		myBlobStart = previous == null ? 0 : previous.getBlobHeapEnd();
+		myGUIDStart = previous == null ? 0 : previous.getGUIDCount();
+		myUSStart = previous == null ? 0 : previous.getUSHeapEnd();
+	}
+
+	/**
+	 * Returns the aggregated size of the #Strings heaps up to and including this generation
+	 */
+	public long getStringsHeapEnd()
+	{
+		return myStringsStart + (strings_stream == null ? 0 : strings_stream.getSize());
+	}
+
+	/**
+	 * Returns the aggregated size of the #Blob heaps up to and including this generation
+	 */
+	public long getBlobHeapEnd()
+	{
+		return myBlobStart + (blob_stream == null ? 0 : blob_stream.getSize());
+	}
+
+	/**
+	 * Returns the aggregated number of GUIDs up to and including this generation
+	 */
+	public long getGUIDCount()
+	{
+		return myGUIDStart + (guid_stream == null ? 0 : guid_stream.getNumGUIDS());
+	}
+
+	/**
+	 * Returns the aggregated size of the #US heaps up to and including this generation
+	 */
+	public long getUSHeapEnd()
+	{
+		return myUSStart + (us_stream == null ? 0 : us_stream.getSize());
 	}
 
 	/**
@@ -448,12 +651,78 @@ public class TableConstants
 	 */
 	public String getString(long offset)
 	{
+		if(offset < myStringsStart)
+		{
+			return myPreviousGeneration.getString(offset);
+		}
 		if(strings_stream == null)
 		{
 			return StringUtil.EMPTY;
 		}
 
-		return strings_stream.getStringByOffset(offset);
+		return strings_stream.getStringByOffset(offset - myStringsStart);
+	}
+
+	/**
+	 * Compares a string of the #Strings heap with the given value without decoding it,
+	 * see StringsStream.equalsByOffset
+	 */
+	public boolean stringEquals(long offset, @Nonnull CharSequence value)
+	{
+		if(offset < myStringsStart)
+		{
+			return myPreviousGeneration.stringEquals(offset, value);
+		}
+		if(strings_stream == null)
+		{
+			return value.length() == 0;
+		}
+		return strings_stream.equalsByOffset(offset - myStringsStart, value);
+	}
+
+	/**
+	 * Compares two strings of the #Strings heap without decoding them
+	 */
+	public boolean stringEquals(long offset1, long offset2)
+	{
+		if(offset1 < myStringsStart || offset2 < myStringsStart)
+		{
+			return getUtf8Name(offset1).equals(getUtf8Name(offset2));
+		}
+		return strings_stream == null || strings_stream.equalsByOffset(offset1 - myStringsStart, offset2 - myStringsStart);
+	}
+
+	/**
+	 * Returns a view of a string of the #Strings heap, see StringsStream.getNameByOffset
+	 */
+	@Nonnull
+	public Utf8Name getUtf8Name(long offset)
+	{
+		if(offset < myStringsStart)
+		{
+			return myPreviousGeneration.getUtf8Name(offset);
+		}
+		if(strings_stream == null)
+		{
+			return new Utf8Name(new byte[0], 0, 0);
+		}
+		return strings_stream.getNameByOffset(offset - myStringsStart);
+	}
+
+	/**
+	 * Returns Utf8Name.hash of a string of the #Strings heap
+	 */
+	public int getStringHash(long offset)
+	{
+		if(offset < myStringsStart)
+		{
+			return myPreviousGeneration.getStringHash(offset);
+		}
+		if(strings_stream == null)
+		{
+			return Utf8Name.hash(StringUtil.EMPTY);
+		}
+		return strings_stream.getHashByOffset(offset - myStringsStart);
 	}
 
 	/**
@@ -464,12 +733,37 @@ public class TableConstants
 	 */
 	public byte[] getBlob(long offset)
 	{
+		if(offset < myBlobStart)
+		{
+			return myPreviousGeneration.getBlob(offset);
+		}
 		if(blob_stream == null)
 		{
 			return new byte[0];
 		}
 
-		return blob_stream.getBlobByOffset(offset);
+		return blob_stream.getBlobByOffset(offset - myBlobStart);
+	}
+
+	/**
+	 * Wrapper method around Blob.getBlobReaderByOffset
+	 *
+	 * @param offset the offset into the #Blob stream
+	 * @return a reader over the blob, or an empty reader if there is no #Blob stream
+	 */
+	@Nonnull
+	public BlobReader getBlobReader(long offset)
+	{
+		if(offset < myBlobStart)
+		{
+			return myPreviousGeneration.getBlobReader(offset);
+		}
+		if(blob_stream == null)
+		{
+			return new BlobReader();
+		}
+
+		return blob_stream.getBlobReaderByOffset(offset - myBlobStart);
 	}
 
 	/**
@@ -480,21 +774,60 @@ public class TableConstants
 	 */
 	public byte[] getGUID(long index)
 	{
+		if(myPreviousGeneration != null && index <= myGUIDStart)
+		{
+			return myPreviousGeneration.getGUID(index);
+		}
 		if(guid_stream == null)
 		{
 			return new byte[0];
 		}
 
-		return guid_stream.getGUIDByIndex(index);
+		return guid_stream.getGUIDByIndex(index - myGUIDStart);
 	}
 
 	public String getUSString(long index)
 	{
+		if(index < myUSStart)
+		{
+			return myPreviousGeneration.getUSString(index);
+		}
 		if(us_stream == null)
 		{
 			return "";
 		}
-		return us_stream.getStringByOffset(index);
+		return us_stream.getStringByOffset(index - myUSStart);
+	}
+
+	/**
+	 * Returns the offsets of all strings of the #US heap, see USStream.offsetIterator.
+	 * The strings of previous generations come first.
+	 */
+	@Nonnull
+	public PrimitiveIterator.OfInt getUSStringOffsets()
+	{
+		PrimitiveIterator.OfInt local = us_stream == null ? IntStream.empty().iterator() : us_stream.offsetIterator();
+		if(myPreviousGeneration == null)
+		{
+			return local;
+		}
+
+		PrimitiveIterator.OfInt previous = myPreviousGeneration.getUSStringOffsets();
+		int start = (int) myUSStart;
+		return new PrimitiveIterator.OfInt()
+		{
+			@Override
+			public boolean hasNext()
+			{
+				return previous.hasNext() || local.hasNext();
+			}
+
+			@Override
+			public int nextInt()
+			{
+				return previous.hasNext() ? previous.nextInt() : start + local.nextInt();
+			}
+		};
 	}
 
 	/**
@@ -503,20 +836,59 @@ public class TableConstants
 	 * @param codedIndex the coded index value
 	 * @param type       the type of coded index (one of the constants defined in this class, i.e. HasConst)
 	 * @return a long integer pair of {table number, row number}
+	 * @deprecated allocates a pair for every call, use decodeCodedIndex with tableOf and ridOf
 	 */
+	@Deprecated
 	public long[] parseCodedIndex(long codedIndex, int type)
 	{
-		//  converts a codedindex into a {table number, row number} int array
-		if(type < 0 || type > TypeOrMethodDef)
+		long token = decodeCodedIndex(codedIndex, type);
+		if(token == -1L)
 		{
 			return null;
 		}
+		return new long[]{tableOf(token), ridOf(token)};
+	}
 
-		long result[] = new long[2];
-		result[0] = (long) TABLE_OPTIONS[type][(int) (codedIndex & MASKS[type])];
+	/**
+	 * Turns a coded index into a metadata token (table << 24 | rid), the way tokens are written in IL code
+	 *
+	 * @param codedIndex the coded index value
+	 * @param type       the type of coded index (one of the constants defined in this class, i.e. HasConst)
+	 * @return the token, or -1 if the type is unknown
+	 */
+	public static long decodeCodedIndex(long codedIndex, int type)
+	{
+		if(type < 0 || type > TypeOrMethodDef)
+		{
+			return -1L;
+		}
 		// this will be the actual table number, not the stupid coded index flag number
-		result[1] = (codedIndex >> BITS[type]);
-		return result;
+		int table = TABLE_OPTIONS[type][(int) (codedIndex & MASKS[type])];
+		return token(table, codedIndex >> BITS[type]);
+	}
+
+	/**
+	 * Builds a metadata token from the table number and the 1-based row
+	 */
+	public static long token(int table, long rid)
+	{
+		return ((long) table << 24) | (rid & 0xFFFFFF);
+	}
+
+	/**
+	 * Returns the table number of a metadata token (i.e. TypeDef for 0x02000001)
+	 */
+	public static int tableOf(long token)
+	{
+		return (int) ((token >>> 24) & 0xFF);
+	}
+
+	/**
+	 * Returns the 1-based row of a metadata token (i.e. 1 for 0x02000001), 0 is the null token
+	 */
+	public static int ridOf(long token)
+	{
+		return (int) (token & 0xFFFFFF);
 	}
 
 
@@ -534,6 +906,46 @@ public class TableConstants
 		return -1L;
 	}
 
+	/**
+	 * Returns true if the module declares the table as sorted by its key column (CompressedStream.Sorted)
+	 *
+	 * @param table table number (i.e. CustomAttribute)
+	 */
+	public boolean isSorted(int table)
+	{
+		return (c_stream.Sorted & (1L << table)) != 0;
+	}
+
+	/**
+	 * Returns the size in bytes (2 or 4) of the given coded index type
+	 *
+	 * @param type the type of coded index (one of the constants defined in this class, i.e. HasConst)
+	 */
+	public int getCodedIndexSize(int type)
+	{
+		return myLargeIndexes || INDEX_BITS[type] + BITS[type] >= 16 ? 4 : 2;
+	}
+
+	/**
+	 * Returns the size in bytes (2 or 4) of an index into the given heap
+	 *
+	 * @param heap a constant indicating which heap you want (constants defined in this class, i.e. StringsHeap)
+	 */
+	public int getHeapIndexSize(int heap)
+	{
+		return heapIndexSizes[heap];
+	}
+
+	/**
+	 * Returns the size in bytes (2 or 4) of an index (RID) into the given table
+	 *
+	 * @param table the number of the table type (constants defined in this class, i.e. TypeDef)
+	 */
+	public int getTableIndexSize(int table)
+	{
+		return myLargeIndexes || c_stream.Counts[table] >= 65536 ? 4 : 2;
+	}
+
 	/**
 	 * Parses a coded index from the given input stream.
 	 * This method implicitly uses the correct size of the given coded index
@@ -552,14 +964,7 @@ public class TableConstants
 		{
 			return -1L;
 		}
-		if(INDEX_BITS[type] + BITS[type] >= 16)
-		{
-			return in.readDWORD();
-		}
-		else
-		{
-			return (in.readWORD() & 0xFFFFL);
-		}
+		return readIndex(in, getCodedIndexSize(type));
 	}
 
 	/**
@@ -577,15 +982,7 @@ public class TableConstants
 		{
 			return -1L;
 		}
-
-		if(heapIndexSizes[heap] == 2)
-		{
-			return (in.readWORD() & 0xFFFFL);
-		}
-		else
-		{
-			return in.readDWORD();
-		}
+		return readIndex(in, getHeapIndexSize(heap));
 	}
 
 	/**
@@ -603,14 +1000,16 @@ public class TableConstants
 		{
 			return -1L;
 		}
-		if(c_stream.Counts[table] >= 65536)
+		return readIndex(in, getTableIndexSize(table));
+	}
+
+	private static long readIndex(MSILInputStream in, int size) throws IOException
+	{
+		if(size == 4)
 		{
 			return in.readDWORD();
 		}
-		else
-		{
-			return in.readWORD();
-		}
+		return in.readWORD();
 	}
 
 	/**
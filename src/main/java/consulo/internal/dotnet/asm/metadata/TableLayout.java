@@ -0,0 +1,121 @@
+package consulo.internal.dotnet.asm.metadata;
+
+import consulo.internal.dotnet.asm.metadata.genericTable.GenericTableDefinition;
+import consulo.internal.dotnet.asm.metadata.genericTable.GenericTableFieldInfo;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Physical layout of one metadata table inside the #~ stream: where the table starts,
+ * how wide a row is and where every column sits inside a row.
+ * Column widths depend on the heap sizes and the row counts of the referenced tables,
+ * so a layout is only valid for the module it was computed for.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public final class TableLayout
+{
+	private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+	@Nonnull
+	static TableLayout build(int table, long rowCount, long offset, @Nonnull TableConstants tc)
+	{
+		GenericTableDefinition definition = TableConstants.GENERIC_TABLE_DEFINITIONS[table];
+		if(definition == null)
+		{
+			if(rowCount > 0)
+			{
+				throw new IllegalArgumentException(table + " is bad index for grammar");
+			}
+			return new TableLayout(table, 0, offset, 0, EMPTY_INT_ARRAY, EMPTY_INT_ARRAY);
+		}
+
+		GenericTableFieldInfo[] fields = definition.getFields();
+		int[] columnOffsets = new int[fields.length];
+		int[] columnSizes = new int[fields.length];
+		int rowSize = 0;
+		for(int i = 0; i < fields.length; i++)
+		{
+			columnOffsets[i] = rowSize;
+			columnSizes[i] = fields[i].getEntryReader().getSize(tc);
+			rowSize += columnSizes[i];
+		}
+		return new TableLayout(table, (int) rowCount, offset, rowSize, columnOffsets, columnSizes);
+	}
+
+	private final int myTable;
+	private final int myRowCount;
+	private final long myOffset;
+	private final int myRowSize;
+	private final int[] myColumnOffsets;
+	private final int[] myColumnSizes;
+
+	private TableLayout(int table, int rowCount, long offset, int rowSize, int[] columnOffsets, int[] columnSizes)
+	{
+		myTable = table;
+		myRowCount = rowCount;
+		myOffset = offset;
+		myRowSize = rowSize;
+		myColumnOffsets = columnOffsets;
+		myColumnSizes = columnSizes;
+	}
+
+	/**
+	 * Returns the table number (i.e. TableConstants.TypeDef)
+	 */
+	public int getTable()
+	{
+		return myTable;
+	}
+
+	public int getRowCount()
+	{
+		return myRowCount;
+	}
+
+	/**
+	 * Returns the offset of the first row, relative to the start of the table data in the #~ stream
+	 */
+	public long getOffset()
+	{
+		return myOffset;
+	}
+
+	/**
+	 * Returns the size of one row in bytes
+	 */
+	public int getRowSize()
+	{
+		return myRowSize;
+	}
+
+	/**
+	 * Returns the size of the whole table in bytes
+	 */
+	public long getSize()
+	{
+		return (long) myRowSize * myRowCount;
+	}
+
+	public int getColumnCount()
+	{
+		return myColumnSizes.length;
+	}
+
+	/**
+	 * Returns the offset of the column inside a row
+	 */
+	public int getColumnOffset(int column)
+	{
+		return myColumnOffsets[column];
+	}
+
+	/**
+	 * Returns the width of the column in bytes (1, 2 or 4)
+	 */
+	public int getColumnSize(int column)
+	{
+		return myColumnSizes[column];
+	}
+}
@@ -20,12 +20,18 @@
 package consulo.internal.dotnet.asm.metadata;
 
 import consulo.internal.dotnet.asm.io.MSILInputStream;
+import consulo.internal.dotnet.asm.util.IntObjectMap;
+import consulo.internal.dotnet.asm.util.StringUtil;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 
 /**
  * This class represents the user string stream in module metadata.
- * User strings are UNICODE-16 strings, little-endian. They are single-null terminated.
+ * User strings are UNICODE-16 strings, little-endian, prefixed with their compressed length in bytes.
+ * The last byte of each entry is a flag telling whether the string has chars above 0x7F.
  *
  * @author Michael Stepp
  */
@@ -33,6 +39,8 @@ public class USStream
 {
 	// should be 4-byte aligned
 	private byte[] rawbytes;
+	// decoded strings by heap offset
+	private final IntObjectMap<String> myStrings = new IntObjectMap<>();
 
 	/**
 	 * Parses a USStream from an input stream, of the given size
@@ -47,39 +55,100 @@ public class USStream
 	}
 
 	/**
-	 * Returns a string from the user string stream, indexed by byte offset
+	 * Returns the size in bytes of this USStream
+	 */
+	public int getSize()
+	{
+		return rawbytes.length;
+	}
+
+	/**
+	 * Returns a string from the user string stream, indexed by byte offset.
+	 * Every offset is decoded only once, later calls return the same String instance.
 	 *
 	 * @param off the byte offset within the stream of the start of the string
 	 * @return the string at the given offset
 	 */
 	public String getStringByOffset(long off)
 	{
-		int length;
 		int offset = (int) off;
-		if((rawbytes[offset] & 0xC0) == 0xC0)
+		synchronized(myStrings)
 		{
-			// 4byte length
-			length = ((rawbytes[offset] << 24) & 0x1F000000) | ((rawbytes[offset + 1] << 16) & 0x00FF0000) | ((rawbytes[offset + 2] << 8) & 0x0000FF00) |
-					(rawbytes[offset + 3] & 0xFF);
-			offset += 4;
+			String value = myStrings.get(offset);
+			if(value == null)
+			{
+				int length = readLength(offset);
+				// the last byte of a non-empty entry is a flag, not part of the string
+				int charBytes = length == 0 ? 0 : (length - 1) & ~1;
+				value = charBytes == 0 ? StringUtil.EMPTY : new String(rawbytes, offset + lengthSize(offset), charBytes, StandardCharsets.UTF_16LE);
+				myStrings.put(offset, value);
+			}
+			return value;
 		}
-		else if((rawbytes[offset] & 0x80) == 0x80)
+	}
+
+	/**
+	 * Returns an iterator over the offsets of all strings in the heap, in heap order.
+	 * The metadata token of a string is 0x70000000 | offset.
+	 */
+	public PrimitiveIterator.OfInt offsetIterator()
+	{
+		return new PrimitiveIterator.OfInt()
 		{
-			length = ((rawbytes[offset] << 8) & 0x3F00) | (rawbytes[offset + 1] & 0xFF);
-			offset += 2;
-		}
-		else
+			// offset 0 is always the empty string
+			private int myNext = skipEmpty(1);
+
+			@Override
+			public boolean hasNext()
+			{
+				return myNext < rawbytes.length;
+			}
+
+			@Override
+			public int nextInt()
+			{
+				if(!hasNext())
+				{
+					throw new NoSuchElementException();
+				}
+				int offset = myNext;
+				myNext = skipEmpty(offset + lengthSize(offset) + readLength(offset));
+				return offset;
+			}
+		};
+	}
+
+	// skips zero length entries, which are also the padding at the end of the heap
+	private int skipEmpty(int offset)
+	{
+		while(offset < rawbytes.length && rawbytes[offset] == 0)
 		{
-			length = rawbytes[offset];
 			offset++;
 		}
+		return offset;
+	}
 
-		StringBuilder builder = new StringBuilder();
-		for(int i = 0; (i + i) < length - 1; i++)
+	private int lengthSize(int offset)
+	{
+		if((rawbytes[offset] & 0xC0) == 0xC0)
 		{
-			builder.append((char) (rawbytes[offset + i + i] | (rawbytes[offset + i + i + 1] << 8)));
+			return 4;
 		}
-		return builder.toString();
+		return (rawbytes[offset] & 0x80) == 0x80 ? 2 : 1;
 	}
-}
 
+	private int readLength(int offset)
+	{
+		if((rawbytes[offset] & 0xC0) == 0xC0)
+		{
+			// 4byte length
+			return ((rawbytes[offset] << 24) & 0x1F000000) | ((rawbytes[offset + 1] << 16) & 0x00FF0000) | ((rawbytes[offset + 2] << 8) & 0x0000FF00) |
+					(rawbytes[offset + 3] & 0xFF);
+		}
+		else if((rawbytes[offset] & 0x80) == 0x80)
+		{
+			return ((rawbytes[offset] << 8) & 0x3F00) | (rawbytes[offset + 1] & 0xFF);
+		}
+		return rawbytes[offset];
+	}
+}
@@ -0,0 +1,219 @@
+package consulo.internal.dotnet.asm.metadata;
+
+import consulo.internal.dotnet.asm.util.StringUtil;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * View of a UTF-8 name inside the #Strings heap. The bytes are not copied and the hash is computed
+ * once, so names can be used as keys and compared with each other or with Java strings without
+ * decoding them.
+ * <p/>
+ * The static methods work directly on heap bytes and are allocation-free; {@link #hash(CharSequence)}
+ * returns the same value for a string as {@link #hash(byte[], int, int)} does for its UTF-8 bytes.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public final class Utf8Name
+{
+	private static final int FNV_OFFSET = 0x811C9DC5;
+	private static final int FNV_PRIME = 0x01000193;
+
+	private final byte[] myBytes;
+	private final int myStart;
+	private final int myEnd;
+	private final int myHash;
+
+	Utf8Name(@Nonnull byte[] bytes, int start, int end)
+	{
+		myBytes = bytes;
+		myStart = start;
+		myEnd = end;
+		myHash = hash(bytes, start, end);
+	}
+
+	/**
+	 * Returns the length of the name in bytes
+	 */
+	public int getByteLength()
+	{
+		return myEnd - myStart;
+	}
+
+	/**
+	 * Returns true if the name is equal to the given string, without decoding the name
+	 */
+	public boolean contentEquals(@Nonnull CharSequence value)
+	{
+		return equals(myBytes, myStart, myEnd, value);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return myHash;
+	}
+
+	@Override
+	public boolean equals(Object obj)
+	{
+		if(this == obj)
+		{
+			return true;
+		}
+		if(!(obj instanceof Utf8Name))
+		{
+			return false;
+		}
+		Utf8Name other = (Utf8Name) obj;
+		return myHash == other.myHash && equals(myBytes, myStart, myEnd, other.myBytes, other.myStart, other.myEnd);
+	}
+
+	@Override
+	public String toString()
+	{
+		return StringUtil.decodeUtf8(myBytes, myStart, myEnd);
+	}
+
+	/**
+	 * Hash of the bytes [start, end)
+	 */
+	public static int hash(@Nonnull byte[] bytes, int start, int end)
+	{
+		int hash = FNV_OFFSET;
+		for(int i = start; i < end; i++)
+		{
+			hash = (hash ^ (bytes[i] & 0xFF)) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+	/**
+	 * Hash of the UTF-8 encoding of the given string, computed without encoding it
+	 */
+	public static int hash(@Nonnull CharSequence value)
+	{
+		int hash = FNV_OFFSET;
+		int length = value.length();
+		for(int i = 0; i < length; i++)
+		{
+			int c = value.charAt(i);
+			if(c < 0x80)
+			{
+				hash = (hash ^ c) * FNV_PRIME;
+				continue;
+			}
+
+			int codePoint = codePointAt(value, i, length);
+			if(codePoint > 0xFFFF)
+			{
+				i++;
+			}
+			int bytes = utf8Length(codePoint);
+			for(int k = 0; k < bytes; k++)
+			{
+				hash = (hash ^ utf8Byte(codePoint, bytes, k)) * FNV_PRIME;
+			}
+		}
+		return hash;
+	}
+
+	/**
+	 * Returns true if the bytes [start, end) are the UTF-8 encoding of the given string
+	 */
+	public static boolean equals(@Nonnull byte[] bytes, int start, int end, @Nonnull CharSequence value)
+	{
+		int position = start;
+		int length = value.length();
+		for(int i = 0; i < length; i++)
+		{
+			int c = value.charAt(i);
+			if(c < 0x80)
+			{
+				if(position >= end || bytes[position++] != c)
+				{
+					return false;
+				}
+				continue;
+			}
+
+			int codePoint = codePointAt(value, i, length);
+			if(codePoint > 0xFFFF)
+			{
+				i++;
+			}
+			int count = utf8Length(codePoint);
+			if(position + count > end)
+			{
+				return false;
+			}
+			for(int k = 0; k < count; k++)
+			{
+				if((bytes[position++] & 0xFF) != utf8Byte(codePoint, count, k))
+				{
+					return false;
+				}
+			}
+		}
+		return position == end;
+	}
+
+	/**
+	 * Returns true if the bytes [start1, end1) and [start2, end2) are equal
+	 */
+	public static boolean equals(@Nonnull byte[] bytes1, int start1, int end1, @Nonnull byte[] bytes2, int start2, int end2)
+	{
+		int length = end1 - start1;
+		if(length != end2 - start2)
+		{
+			return false;
+		}
+		for(int i = 0; i < length; i++)
+		{
+			if(bytes1[start1 + i] != bytes2[start2 + i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int codePointAt(CharSequence value, int index, int length)
+	{
+		char c = value.charAt(index);
+		if(Character.isHighSurrogate(c) && index + 1 < length && Character.isLowSurrogate(value.charAt(index + 1)))
+		{
+			return Character.toCodePoint(c, value.charAt(index + 1));
+		}
+		// an unpaired surrogate is encoded as '?', like String.getBytes(UTF_8) does
+		return Character.isSurrogate(c) ? '?' : c;
+	}
+
+	private static int utf8Length(int codePoint)
+	{
+		if(codePoint < 0x80)
+		{
+			return 1;
+		}
+		if(codePoint < 0x800)
+		{
+			return 2;
+		}
+		return codePoint < 0x10000 ? 3 : 4;
+	}
+
+	private static int utf8Byte(int codePoint, int length, int index)
+	{
+		if(length == 1)
+		{
+			return codePoint;
+		}
+		if(index == 0)
+		{
+			int lead = length == 2 ? 0xC0 : length == 3 ? 0xE0 : 0xF0;
+			return lead | (codePoint >> (6 * (length - 1)));
+		}
+		return 0x80 | ((codePoint >> (6 * (length - 1 - index))) & 0x3F);
+	}
+}
@@ -1,9 +1,5 @@
 package consulo.internal.dotnet.asm.metadata.genericTable.entryReader;
 
-import java.io.IOException;
-
-import jakarta.annotation.Nullable;
-import consulo.internal.dotnet.asm.io.MSILInputStream;
 import consulo.internal.dotnet.asm.metadata.TableConstants;
 
 /**
@@ -12,11 +8,9 @@ import consulo.internal.dotnet.asm.metadata.TableConstants;
  */
 public class BlobHeapEntryReader implements EntryReader
 {
-	@Nullable
 	@Override
-	public Object read(MSILInputStream in, TableConstants tc) throws IOException
+	public int getSize(TableConstants tc)
 	{
-		long index = tc.readHeapIndex(in, TableConstants.BlobHeap);
-		return tc.getBlob(index);
+		return tc.getHeapIndexSize(TableConstants.BlobHeap);
 	}
 }
@@ -1,9 +1,5 @@
 package consulo.internal.dotnet.asm.metadata.genericTable.entryReader;
 
-import java.io.IOException;
-
-import jakarta.annotation.Nullable;
-import consulo.internal.dotnet.asm.io.MSILInputStream;
 import consulo.internal.dotnet.asm.metadata.TableConstants;
 
 /**
@@ -19,10 +15,9 @@ public class CodeValueEntryReader implements EntryReader
 		myCodeIndex = codeIndex;
 	}
 
-	@Nullable
 	@Override
-	public Object read(MSILInputStream in, TableConstants tc) throws IOException
+	public int getSize(TableConstants tc)
 	{
-		return tc.readCodedIndex(in, myCodeIndex);
+		return tc.getCodedIndexSize(myCodeIndex);
 	}
 }
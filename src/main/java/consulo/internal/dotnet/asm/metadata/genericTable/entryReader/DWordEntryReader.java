@@ -1,11 +1,7 @@
 package consulo.internal.dotnet.asm.metadata.genericTable.entryReader;
 
-import java.io.IOException;
-
-import consulo.internal.dotnet.asm.io.MSILInputStream;
 import consulo.internal.dotnet.asm.metadata.TableConstants;
 
-import jakarta.annotation.Nullable;
 
 /**
  * @author VISTALL
@@ -13,10 +9,9 @@ import jakarta.annotation.Nullable;
  */
 public class DWordEntryReader implements EntryReader
 {
-	@Nullable
 	@Override
-	public Object read(MSILInputStream in, TableConstants tc) throws IOException
+	public int getSize(TableConstants tc)
 	{
-		return in.readDWORD();
+		return 4;
 	}
 }
@@ -1,9 +1,5 @@
 package consulo.internal.dotnet.asm.metadata.genericTable.entryReader;
 
-import java.io.IOException;
-
-import jakarta.annotation.Nullable;
-import consulo.internal.dotnet.asm.io.MSILInputStream;
 import consulo.internal.dotnet.asm.metadata.TableConstants;
 
 /**
@@ -12,6 +8,9 @@ import consulo.internal.dotnet.asm.metadata.TableConstants;
  */
 public interface EntryReader
 {
-	@Nullable
-	Object read(MSILInputStream in, TableConstants tc) throws IOException;
+	/**
+	 * Returns the width of the cell in bytes (1, 2 or 4). Every cell is a little-endian unsigned value,
+	 * heap cells are heap offsets (GUID index for #GUID), table and coded index cells are raw indexes.
+	 */
+	int getSize(TableConstants tc);
 }
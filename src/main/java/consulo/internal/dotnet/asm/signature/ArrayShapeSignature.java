@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 
 /**
  * This class describes the shape of a general array
@@ -78,7 +78,7 @@ public class ArrayShapeSignature extends Signature
 	 * @param buffer the bufer to read from
 	 * @return an ArrayShapeSignature representing the given blob, or null if there was a parse error
 	 */
-	public static ArrayShapeSignature parse(ByteBuffer buffer)
+	public static ArrayShapeSignature parse(BlobReader buffer)
 	{
 		ArrayShapeSignature blob = new ArrayShapeSignature();
 
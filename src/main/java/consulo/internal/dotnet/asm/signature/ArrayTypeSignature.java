@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 import jakarta.annotation.Nonnull;
@@ -61,7 +61,7 @@ public class ArrayTypeSignature extends TypeSpecSignature
 	 * @param group  a TyprGroup for reconciling tokens to mbel references
 	 * @return an ArrayTypeSignature representing the given blob, or null if there was a parse error
 	 */
-	public static TypeSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static TypeSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		ArrayTypeSignature blob = new ArrayTypeSignature();
 		byte data = buffer.get();
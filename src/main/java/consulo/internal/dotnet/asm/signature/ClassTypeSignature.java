@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.AbstractTypeReference;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 import consulo.internal.dotnet.asm.metadata.TableConstants;
@@ -59,7 +59,7 @@ public class ClassTypeSignature extends TypeSignature
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return a ClassTypeSignature representing the given blob, or null if there was a parse error
 	 */
-	public static TypeSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static TypeSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		byte data = buffer.get();
 		if(data != ELEMENT_TYPE_CLASS)
@@ -68,18 +68,19 @@ public class ClassTypeSignature extends TypeSignature
 		}
 
 		ClassTypeSignature blob = new ClassTypeSignature();
-		int token[] = parseTypeDefOrRefEncoded(buffer);
-		if(token[0] == TableConstants.TypeDef)
+		int token = readTypeDefOrRefEncoded(buffer);
+		int table = TableConstants.tableOf(token);
+		if(table == TableConstants.TypeDef)
 		{
-			blob.classType = group.getTypeDefs()[token[1] - 1];
+			blob.classType = group.getTypeDefs()[TableConstants.ridOf(token) - 1];
 		}
-		else if(token[0] == TableConstants.TypeRef)
+		else if(table == TableConstants.TypeRef)
 		{
-			blob.classType = group.getTypeRefs()[token[1] - 1];
+			blob.classType = group.getTypeRefs()[TableConstants.ridOf(token) - 1];
 		}
-		else if(token[0] == TableConstants.TypeSpec)
+		else if(table == TableConstants.TypeSpec)
 		{
-			blob.classType = group.getTypeSpecs()[token[1] - 1];
+			blob.classType = group.getTypeSpecs()[TableConstants.ridOf(token) - 1];
 		}
 		else
 		{
@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 
 /**
  * This class decsribes a constraint on a local var.
@@ -45,7 +45,7 @@ public class Constraint extends TypeSignature
 	 * @param buffer the buffer to read from
 	 * @return a Constraint representing the given blob, or null if there was a parse error
 	 */
-	public static Constraint parse(ByteBuffer buffer)
+	public static Constraint parse(BlobReader buffer)
 	{
 		Constraint blob = new Constraint();
 		blob.elementType = buffer.get();
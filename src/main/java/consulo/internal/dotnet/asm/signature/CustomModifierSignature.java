@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.AbstractTypeReference;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 import consulo.internal.dotnet.asm.metadata.TableConstants;
@@ -64,7 +64,7 @@ public class CustomModifierSignature extends TypeSignature
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return a CustomModifierSignature representing the given blob, or null if there was a parse error
 	 */
-	public static CustomModifierSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static CustomModifierSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		byte data = buffer.get();
 		if(!(data == ELEMENT_TYPE_CMOD_REQD || data == ELEMENT_TYPE_CMOD_OPT))
@@ -74,19 +74,20 @@ public class CustomModifierSignature extends TypeSignature
 
 		CustomModifierSignature blob = new CustomModifierSignature(data == ELEMENT_TYPE_CMOD_OPT);
 
-		int token[] = parseTypeDefOrRefEncoded(buffer);
+		int token = readTypeDefOrRefEncoded(buffer);
+		int table = TableConstants.tableOf(token);
 
-		if(token[0] == TableConstants.TypeDef)
+		if(table == TableConstants.TypeDef)
 		{
-			blob.type = group.getTypeDefs()[token[1] - 1];
+			blob.type = group.getTypeDefs()[TableConstants.ridOf(token) - 1];
 		}
-		else if(token[0] == TableConstants.TypeRef)
+		else if(table == TableConstants.TypeRef)
 		{
-			blob.type = group.getTypeRefs()[token[1] - 1];
+			blob.type = group.getTypeRefs()[TableConstants.ridOf(token) - 1];
 		}
-		else if(token[0] == TableConstants.TypeSpec)
+		else if(table == TableConstants.TypeSpec)
 		{
-			blob.type = group.getTypeSpecs()[token[1] - 1];
+			blob.type = group.getTypeSpecs()[TableConstants.ridOf(token) - 1];
 		}
 		else
 		{
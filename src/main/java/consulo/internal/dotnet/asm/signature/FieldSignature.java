@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 import jakarta.annotation.Nonnull;
@@ -29,7 +29,8 @@ import java.util.Collections;
 import java.util.List;
 
 /**
- * This class describes the type of an mbel field
+ * This class describes the type of an mbel field. Signatures are immutable:
+ * ModuleParser shares one instance between all fields and field references whose signature is the same blob.
  *
  * @author Michael Stepp
  */
@@ -65,6 +66,7 @@ public class FieldSignature extends StandAloneSignature implements CallingConven
 		{
 			customMods = new ArrayList<CustomModifierSignature>(mods.length);
 			Collections.addAll(customMods, mods);
+			customMods = Collections.unmodifiableList(customMods);
 		}
 	}
 
@@ -79,7 +81,7 @@ public class FieldSignature extends StandAloneSignature implements CallingConven
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return a FieldSignature representing the given blob, or null if there was a parse error
 	 */
-	public static FieldSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static FieldSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		byte data = buffer.get();
 		if((data & CALL_CONV_MASK) != FIELD)
@@ -101,6 +103,10 @@ public class FieldSignature extends StandAloneSignature implements CallingConven
 			temp = CustomModifierSignature.parse(buffer, group);
 		}
 		buffer.setPosition(pos);
+		if(!blob.customMods.isEmpty())
+		{
+			blob.customMods = Collections.unmodifiableList(blob.customMods);
+		}
 
 		blob.type = TypeSignatureParser.parse(buffer, group);
 		if(blob.type == null)
@@ -111,7 +117,7 @@ public class FieldSignature extends StandAloneSignature implements CallingConven
 	}
 
 	/**
-	 * Returns the custom modifiers applied to this field
+	 * Returns the custom modifiers applied to this field (an unmodifiable list)
 	 */
 	public List<CustomModifierSignature> getCustomModifiers()
 	{
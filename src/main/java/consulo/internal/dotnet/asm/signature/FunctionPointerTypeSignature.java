@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 /**
@@ -59,7 +59,7 @@ public class FunctionPointerTypeSignature extends TypeSpecSignature
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return a FunctionPointerTypeSignature representing the given blob, or null if there was a parse error
 	 */
-	public static TypeSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static TypeSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		byte data = buffer.get();
 		if(data != ELEMENT_TYPE_FNPTR)
@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 import jakarta.annotation.Nonnull;
@@ -81,7 +81,7 @@ public class LocalVar extends Signature
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return a LocalVar representing the given blob, or null if there was a parse error
 	 */
-	public static LocalVar parse(ByteBuffer buffer, TypeGroup group)
+	public static LocalVar parse(BlobReader buffer, TypeGroup group)
 	{
 		LocalVar blob = new LocalVar();
 
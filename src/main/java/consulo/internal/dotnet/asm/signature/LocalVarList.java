@@ -25,7 +25,7 @@ import java.util.Collections;
 import java.util.List;
 
 import jakarta.annotation.Nonnull;
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 /**
@@ -64,7 +64,7 @@ public class LocalVarList extends StandAloneSignature implements CallingConventi
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return a LocalVarListSignature representing the given blob, or null if there was a parse error
 	 */
-	public static LocalVarList parse(ByteBuffer buffer, TypeGroup group)
+	public static LocalVarList parse(BlobReader buffer, TypeGroup group)
 	{
 		LocalVarList blob = new LocalVarList();
 
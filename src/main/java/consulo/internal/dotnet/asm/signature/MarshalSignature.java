@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 
 /**
  * This class describes .NET field marshalling information
@@ -92,7 +92,7 @@ public class MarshalSignature extends Signature implements MarshalSignatureConst
 	 * @param buffer the buffer to read from
 	 * @return a MarshalSignature representing the given binary blob, or null if there was a parse error
 	 */
-	public static MarshalSignature parse(ByteBuffer buffer)
+	public static MarshalSignature parse(BlobReader buffer)
 	{
 		MarshalSignature blob = new MarshalSignature();
 
@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 import jakarta.annotation.Nonnull;
@@ -29,7 +29,8 @@ import java.util.Collections;
 import java.util.List;
 
 /**
- * This class describes a method signature
+ * This class describes a method signature. Signatures are immutable:
+ * ModuleParser shares one instance between all members whose signature is the same blob.
  *
  * @author Michael Stepp
  */
@@ -93,6 +94,7 @@ public class MethodSignature extends StandAloneSignature implements CallingConve
 				params.add(extraParam);
 			}
 		}
+		params = Collections.unmodifiableList(params);
 		returnType = rType;
 	}
 
@@ -138,6 +140,7 @@ public class MethodSignature extends StandAloneSignature implements CallingConve
 				}
 				this.params.add(param);
 			}
+			this.params = Collections.unmodifiableList(this.params);
 		}
 		returnType = rType;
 	}
@@ -149,7 +152,7 @@ public class MethodSignature extends StandAloneSignature implements CallingConve
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return a MethodSignature representing the given blob, or null if there was a parse error
 	 */
-	public static MethodSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static MethodSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		MethodSignature blob = new MethodSignature();
 
@@ -184,6 +187,10 @@ public class MethodSignature extends StandAloneSignature implements CallingConve
 			}
 			blob.params.add(temp);
 		}
+		if(paramCount != 0)
+		{
+			blob.params = Collections.unmodifiableList(blob.params);
+		}
 		return blob;
 	}
 
@@ -197,23 +204,6 @@ public class MethodSignature extends StandAloneSignature implements CallingConve
 		return (flags & HASTHIS) != 0;
 	}
 
-	/**
-	 * Sets whether this method has a 'this' pointer or not (i.e. static vs. non-static).
-	 * Since EXPLICITTHIS cannot be set without HASTHIS, passing false also turns off EXPLICITTHIS.
-	 */
-	public void setHasThis(boolean hasthis)
-	{
-		if(hasthis)
-		{
-			flags = (byte) (flags | HASTHIS);
-		}
-		else
-		{
-			flags = (byte) (flags & ~HASTHIS);
-			setExplicitThis(false);
-		}
-	}
-
 	/**
 	 * Convenience method for testing EXPLICITTHIS calling convention flag
 	 *
@@ -224,23 +214,6 @@ public class MethodSignature extends StandAloneSignature implements CallingConve
 		return (flags & EXPLICITTHIS) != 0;
 	}
 
-	/**
-	 * Sets whether this this method has an explicit 'this' pointer.
-	 * Since EXPLICITTHIS cannot be set without HASTHIS, passing true also turns on HASTHIS.
-	 */
-	public void setExplicitThis(boolean exthis)
-	{
-		if(exthis)
-		{
-			setHasThis(true);
-			flags = (byte) (flags | EXPLICITTHIS);
-		}
-		else
-		{
-			flags = (byte) (flags & ~EXPLICITTHIS);
-		}
-	}
-
 	/**
 	 * Returns a byte of flags representing the calling convention of this method
 	 */
@@ -249,33 +222,10 @@ public class MethodSignature extends StandAloneSignature implements CallingConve
 		return (byte) (flags & CALL_CONV_MASK);
 	}
 
-	/**
-	 * Sets the calling convention of this method.
-	 *
-	 * @param conv a byte code for the calling convention (defined in CallingConvention)
-	 */
-	public void setCallingConvention(byte conv)
-	{
-		flags = (byte) ((flags & 0xF0) | (conv & 0x0F));
-	}
-
-	/**
-	 * Sets this methods calling convention flags
-	 * (this method is user-proof, i.e. ignores invalid input)
-	 */
-	public void setFlags(byte Flags)
-	{
-		if((Flags & (~HASTHIS) & (~EXPLICITTHIS)) != 0)
-		{
-			return;
-		}
-		flags = Flags;
-	}
-
 	/**
 	 * Getter method for the parameter signatures in this method
 	 *
-	 * @return an array of parameter signature, in order (will never be null, but may have 0 length)
+	 * @return an unmodifiable list of parameter signatures, in order (will never be null, but may have 0 length)
 	 */
 	public List<ParameterSignature> getParameters()
 	{
@@ -290,11 +240,4 @@ public class MethodSignature extends StandAloneSignature implements CallingConve
 		return returnType;
 	}
 
-	/**
-	 * Setter method for the return type of this method
-	 */
-	public void setReturnType(ReturnTypeSignature rType)
-	{
-		returnType = rType;
-	}
 }
@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 import jakarta.annotation.Nonnull;
@@ -39,7 +39,6 @@ public class ParameterSignature extends TypeSignature implements InnerTypeOwner
 	private List<CustomModifierSignature> customMods = Collections.emptyList();
 	private TypeSignature type;
 
-	private ParameterInfo paramInfo;
    /* elementType:      meaning:
 	  TYPEONLY(==0)    just Type, no BYREF
       BYREF             BYREF and Type
@@ -73,7 +72,7 @@ public class ParameterSignature extends TypeSignature implements InnerTypeOwner
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return a ParameterSignature representing the given binary blob, or null if there was a parse error
 	 */
-	public static ParameterSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static ParameterSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		ParameterSignature blob = new ParameterSignature();
 
@@ -120,22 +119,6 @@ public class ParameterSignature extends TypeSignature implements InnerTypeOwner
 		return blob;
 	}
 
-	/**
-	 * Returns the ParamInfo object for this parameter (may be null)
-	 */
-	public ParameterInfo getParameterInfo()
-	{
-		return paramInfo;
-	}
-
-	/**
-	 * Sets the ParamInfo object for this parameter (may be null)
-	 */
-	public void setParameterInfo(ParameterInfo info)
-	{
-		paramInfo = info;
-	}
-
 	/**
 	 * Getter method for the CustomModifiers applied to this signature
 	 */
@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 import jakarta.annotation.Nonnull;
@@ -91,7 +91,7 @@ public class PointerTypeSignature extends TypeSpecSignature
 	 * @param group  a TypeGroup to reconcile tokens to mbel references
 	 * @return a PointerTypeSignature representing the given binary blob, or null if there was a parse error
 	 */
-	public static TypeSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static TypeSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		PointerTypeSignature blob = new PointerTypeSignature();
 		byte data = buffer.get();
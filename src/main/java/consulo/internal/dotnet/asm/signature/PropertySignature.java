@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 import jakarta.annotation.Nonnull;
@@ -29,7 +29,8 @@ import java.util.Collections;
 import java.util.List;
 
 /**
- * This class describes the signature of a Property
+ * This class describes the signature of a Property. Signatures are immutable:
+ * ModuleParser shares one instance between all properties whose signature is the same blob.
  *
  * @author Michael Stepp
  */
@@ -75,6 +76,7 @@ public class PropertySignature extends Signature implements CallingConvention
 		{
 			this.params = new ArrayList<ParameterSignature>(params.length);
 			Collections.addAll(this.params, params);
+			this.params = Collections.unmodifiableList(this.params);
 		}
 	}
 
@@ -86,7 +88,7 @@ public class PropertySignature extends Signature implements CallingConvention
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return a PropertySignature representing the given blob, or null if there was a parse error
 	 */
-	public static PropertySignature parse(ByteBuffer buffer, TypeGroup group)
+	public static PropertySignature parse(BlobReader buffer, TypeGroup group)
 	{
 		PropertySignature blob = new PropertySignature();
 
@@ -116,6 +118,10 @@ public class PropertySignature extends Signature implements CallingConvention
 			}
 			blob.params.add(temp);
 		}
+		if(paramCount != 0)
+		{
+			blob.params = Collections.unmodifiableList(blob.params);
+		}
 		return blob;
 	}
 
@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 import jakarta.annotation.Nonnull;
@@ -36,7 +36,6 @@ import java.util.List;
  */
 public class ReturnTypeSignature extends Signature implements InnerTypeOwner
 {
-	private ParameterInfo paramInfo;
 	// Signature fields
 	private List<CustomModifierSignature> customMods = Collections.emptyList();
 	private TypeSignature type;
@@ -86,13 +85,13 @@ public class ReturnTypeSignature extends Signature implements InnerTypeOwner
 
 
 	/**
-	 * Factory method to parse a ReturnTypeSignature from a ByteBuffer blob
+	 * Factory method to parse a ReturnTypeSignature from a blob
 	 *
 	 * @param buffer the buffer to read from
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return a ReturnTypeSignature representing the given blob, or null if there was a parse error
 	 */
-	public static ReturnTypeSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static ReturnTypeSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		ReturnTypeSignature blob = new ReturnTypeSignature();
 
@@ -142,22 +141,6 @@ public class ReturnTypeSignature extends Signature implements InnerTypeOwner
 		return blob;
 	}
 
-	/**
-	 * Returns the ParamInfo object of this return type (may be null)
-	 */
-	public ParameterInfo getParameterInfo()
-	{
-		return paramInfo;
-	}
-
-	/**
-	 * Sets the ParamInfo object for this return type (may be null)
-	 */
-	public void setParameterInfo(ParameterInfo info)
-	{
-		paramInfo = info;
-	}
-
 	/**
 	 * Returns the type of returntype this is:
 	 * Type:                    Meaning:
@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 import jakarta.annotation.Nonnull;
@@ -82,7 +82,7 @@ public class SZArrayTypeSignature extends TypeSpecSignature
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return an SZArrayTypeSignature representing this binary blob, or null if there was a parse error
 	 */
-	public static TypeSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static TypeSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		SZArrayTypeSignature blob = new SZArrayTypeSignature();
 		byte data = buffer.get();
@@ -20,11 +20,13 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
+import consulo.internal.dotnet.asm.metadata.TableConstants;
 
 /**
  * Superclass of all signature types. This inheritance hierarchy is just for
- * convenience, to supply useful state and behavior to each signature class
+ * convenience, to supply useful state and behavior to each signature class.
+ * The signature is immutable and may be shared with other members parsed from the same signature blob.
  *
  * @author Michael Stepp
  */
@@ -43,7 +45,7 @@ public abstract class Signature implements SignatureConstants
 	 * @param buffer the buffer
 	 * @return the decoded integer value
 	 */
-	public static int readCodedInteger(ByteBuffer buffer)
+	public static int readCodedInteger(BlobReader buffer)
 	{
 		int result = 0;
 		byte data1 = buffer.get();
@@ -76,16 +78,26 @@ public abstract class Signature implements SignatureConstants
 	 *
 	 * @param buffer the buffer to read from
 	 * @return an int array with {table num, row num}
+	 * @deprecated allocates a pair for every call, use readTypeDefOrRefEncoded
 	 */
-	public static int[] parseTypeDefOrRefEncoded(ByteBuffer buffer)
+	@Deprecated
+	public static int[] parseTypeDefOrRefEncoded(BlobReader buffer)
 	{
-		int[] token = new int[2];
-		int result = readCodedInteger(buffer);
-
-		token[0] = ROWS[result & 0x3]; // this is the actual table number now
-		token[1] = result >> 2;
+		int token = readTypeDefOrRefEncoded(buffer);
+		return new int[]{TableConstants.tableOf(token), TableConstants.ridOf(token)};
+	}
 
-		return token;
+	/**
+	 * Reads a TypeDefOrRefEncoded blob from the given buffer
+	 *
+	 * @param buffer the buffer to read from
+	 * @return a metadata token (table << 24 | rid), see TableConstants.tableOf and TableConstants.ridOf
+	 */
+	public static int readTypeDefOrRefEncoded(BlobReader buffer)
+	{
+		int result = readCodedInteger(buffer);
+		// ROWS holds the actual table numbers
+		return ROWS[result & 0x3] << 24 | (result >> 2) & 0xFFFFFF;
 	}
 
 	/**
@@ -19,7 +19,7 @@ package consulo.internal.dotnet.asm.signature;
 import java.util.ArrayList;
 import java.util.List;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 /**
@@ -28,7 +28,7 @@ import consulo.internal.dotnet.asm.mbel.TypeGroup;
  */
 public class TypeSignatureParser implements SignatureConstants
 {
-	public static TypeSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static TypeSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		byte data = buffer.peek();
 
@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 
 /**
@@ -38,11 +38,11 @@ public abstract class TypeSpecSignature extends TypeSignature
 	/**
 	 * Factory method for generating a TypeSpecSignature from a binary blob
 	 *
-	 * @param buffer the ByteBuffer wrapper around the binary blob
+	 * @param buffer the BlobReader over the binary blob
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return a TypeSpecSignature representing the binary blob, or null if there was a parse error
 	 */
-	public static TypeSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static TypeSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		byte data = buffer.peek();
 		switch(data)
@@ -20,7 +20,7 @@
 
 package consulo.internal.dotnet.asm.signature;
 
-import consulo.internal.dotnet.asm.io.ByteBuffer;
+import consulo.internal.dotnet.asm.io.BlobReader;
 import consulo.internal.dotnet.asm.mbel.AbstractTypeReference;
 import consulo.internal.dotnet.asm.mbel.TypeGroup;
 import consulo.internal.dotnet.asm.metadata.TableConstants;
@@ -59,7 +59,7 @@ public class ValueTypeSignature extends TypeSignature
 	 * @param group  a TypeGroup for reconciling tokens to mbel references
 	 * @return the ValueTypeSignature representing the binary blob, or null if there was a parse error
 	 */
-	public static TypeSignature parse(ByteBuffer buffer, TypeGroup group)
+	public static TypeSignature parse(BlobReader buffer, TypeGroup group)
 	{
 		byte data = buffer.get();
 		if(data != ELEMENT_TYPE_VALUETYPE)
@@ -68,18 +68,19 @@ public class ValueTypeSignature extends TypeSignature
 		}
 		ValueTypeSignature blob = new ValueTypeSignature();
 
-		int token[] = parseTypeDefOrRefEncoded(buffer);
-		if(token[0] == TableConstants.TypeDef)
+		int token = readTypeDefOrRefEncoded(buffer);
+		int table = TableConstants.tableOf(token);
+		if(table == TableConstants.TypeDef)
 		{
-			blob.valueType = group.getTypeDefs()[token[1] - 1];
+			blob.valueType = group.getTypeDefs()[TableConstants.ridOf(token) - 1];
 		}
-		else if(token[0] == TableConstants.TypeRef)
+		else if(table == TableConstants.TypeRef)
 		{
-			blob.valueType = group.getTypeRefs()[token[1] - 1];
+			blob.valueType = group.getTypeRefs()[TableConstants.ridOf(token) - 1];
 		}
-		else if(token[0] == TableConstants.TypeSpec)
+		else if(table == TableConstants.TypeSpec)
 		{
-			blob.valueType = group.getTypeSpecs()[token[1] - 1];
+			blob.valueType = group.getTypeSpecs()[TableConstants.ridOf(token) - 1];
 		}
 		else
 		{
@@ -0,0 +1,112 @@
+package consulo.internal.dotnet.asm.util;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Open-addressing hash map from int keys to non-null values, without boxing the keys.
+ * Not thread-safe.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public final class IntObjectMap<V>
+{
+	private int[] myKeys;
+	private Object[] myValues;
+	private int mySize;
+
+	public IntObjectMap()
+	{
+		this(16);
+	}
+
+	/**
+	 * @param expectedSize the number of entries which fit without rehashing
+	 */
+	public IntObjectMap(int expectedSize)
+	{
+		int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+		myKeys = new int[capacity];
+		myValues = new Object[capacity];
+	}
+
+	public int size()
+	{
+		return mySize;
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V get(int key)
+	{
+		int mask = myKeys.length - 1;
+		for(int i = hash(key) & mask; ; i = (i + 1) & mask)
+		{
+			Object value = myValues[i];
+			if(value == null)
+			{
+				return null;
+			}
+			if(myKeys[i] == key)
+			{
+				return (V) value;
+			}
+		}
+	}
+
+	/**
+	 * Associates the value with the key, replacing the previous value
+	 */
+	public void put(int key, @Nonnull V value)
+	{
+		int mask = myKeys.length - 1;
+		int i = hash(key) & mask;
+		while(myValues[i] != null)
+		{
+			if(myKeys[i] == key)
+			{
+				myValues[i] = value;
+				return;
+			}
+			i = (i + 1) & mask;
+		}
+
+		myKeys[i] = key;
+		myValues[i] = value;
+		if(++mySize * 2 > myKeys.length)
+		{
+			rehash(myKeys.length * 2);
+		}
+	}
+
+	private void rehash(int capacity)
+	{
+		int[] oldKeys = myKeys;
+		Object[] oldValues = myValues;
+		myKeys = new int[capacity];
+		myValues = new Object[capacity];
+
+		int mask = capacity - 1;
+		for(int j = 0; j < oldKeys.length; j++)
+		{
+			if(oldValues[j] == null)
+			{
+				continue;
+			}
+			int i = hash(oldKeys[j]) & mask;
+			while(myValues[i] != null)
+			{
+				i = (i + 1) & mask;
+			}
+			myKeys[i] = oldKeys[j];
+			myValues[i] = oldValues[j];
+		}
+	}
+
+	private static int hash(int key)
+	{
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
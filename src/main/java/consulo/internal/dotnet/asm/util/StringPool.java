@@ -0,0 +1,66 @@
+package consulo.internal.dotnet.asm.util;
+
+import jakarta.annotation.Nonnull;
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+/**
+ * Thread-safe pool of weakly referenced strings, to share equal names between modules.
+ * A pooled string is kept only as long as something else references it.
+ * The pool is split into segments, each guarded by its own lock.
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public final class StringPool
+{
+	private static final int SEGMENTS = 32;
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private final WeakHashMap<String, WeakReference<String>>[] mySegments = new WeakHashMap[SEGMENTS];
+
+	public StringPool()
+	{
+		for(int i = 0; i < SEGMENTS; i++)
+		{
+			mySegments[i] = new WeakHashMap<>();
+		}
+	}
+
+	/**
+	 * Returns the pooled string equal to the given one, adding the given one if there is none
+	 */
+	@Nonnull
+	public String intern(@Nonnull String value)
+	{
+		int hash = value.hashCode();
+		WeakHashMap<String, WeakReference<String>> segment = mySegments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+		synchronized(segment)
+		{
+			WeakReference<String> reference = segment.get(value);
+			String pooled = reference == null ? null : reference.get();
+			if(pooled == null)
+			{
+				segment.put(value, new WeakReference<>(value));
+				pooled = value;
+			}
+			return pooled;
+		}
+	}
+
+	/**
+	 * Returns the number of strings in the pool, including ones which are not yet collected
+	 */
+	public int size()
+	{
+		int size = 0;
+		for(WeakHashMap<String, WeakReference<String>> segment : mySegments)
+		{
+			synchronized(segment)
+			{
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+}
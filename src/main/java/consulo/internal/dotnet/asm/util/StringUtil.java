@@ -1,5 +1,10 @@
 package consulo.internal.dotnet.asm.util;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
 /**
  * @author VISTALL
  * @since 2019-09-17
@@ -7,4 +12,68 @@ package consulo.internal.dotnet.asm.util;
 public class StringUtil
 {
 	public static final String EMPTY = "";
+
+	private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+	private static final long ONES = 0x0101010101010101L;
+	private static final long HIGH_BITS = 0x8080808080808080L;
+
+	/**
+	 * Returns the index of the first 0 byte in [start, end), or end if there is none.
+	 * Scans 8 bytes at a time.
+	 */
+	public static int indexOfZero(byte[] bytes, int start, int end)
+	{
+		int i = start;
+		for(; i + 8 <= end; i += 8)
+		{
+			long word = (long) LONG_VIEW.get(bytes, i);
+			long zeros = (word - ONES) & ~word & HIGH_BITS;
+			if(zeros != 0)
+			{
+				return i + (Long.numberOfTrailingZeros(zeros) >>> 3);
+			}
+		}
+		for(; i < end; i++)
+		{
+			if(bytes[i] == 0)
+			{
+				return i;
+			}
+		}
+		return end;
+	}
+
+	/**
+	 * Decodes UTF-8 bytes [start, end). Pure ASCII input, by far the most common in metadata,
+	 * is turned into a String without going through the UTF-8 decoder.
+	 */
+	public static String decodeUtf8(byte[] bytes, int start, int end)
+	{
+		int length = end - start;
+		if(length <= 0)
+		{
+			return EMPTY;
+		}
+		if(isAscii(bytes, start, end))
+		{
+			return new String(bytes, start, length, StandardCharsets.ISO_8859_1);
+		}
+		return new String(bytes, start, length, StandardCharsets.UTF_8);
+	}
+
+	private static boolean isAscii(byte[] bytes, int start, int end)
+	{
+		int i = start;
+		long bits = 0;
+		for(; i + 8 <= end; i += 8)
+		{
+			bits |= (long) LONG_VIEW.get(bytes, i);
+		}
+		for(; i < end; i++)
+		{
+			bits |= bytes[i];
+		}
+		return (bits & HIGH_BITS) == 0;
+	}
 }
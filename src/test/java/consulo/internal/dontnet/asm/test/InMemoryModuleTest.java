@@ -0,0 +1,186 @@
+package consulo.internal.dontnet.asm.test;
+
+import consulo.PathSearcher;
+import consulo.internal.dotnet.asm.mbel.AssemblyIdentity;
+import consulo.internal.dotnet.asm.mbel.AssemblyInfo;
+import consulo.internal.dotnet.asm.mbel.AssemblyRefInfo;
+import consulo.internal.dotnet.asm.mbel.MethodDef;
+import consulo.internal.dotnet.asm.mbel.ModuleParser;
+import consulo.internal.dotnet.asm.mbel.ModuleParserOptions;
+import consulo.internal.dotnet.asm.mbel.TypeDef;
+import consulo.internal.dotnet.asm.signature.MethodSignature;
+import consulo.internal.dotnet.asm.signature.ParameterInfo;
+import consulo.internal.dotnet.asm.util.StringPool;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+
+/**
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public class InMemoryModuleTest extends Assert
+{
+	@Test
+	public void testByteArray() throws Exception
+	{
+		File file = PathSearcher.getTestPath("test7/NestClassLibrary.dll");
+
+		ModuleParser fromFile = new ModuleParser(file);
+		ModuleParser fromBytes = new ModuleParser(Files.readAllBytes(file.toPath()));
+
+		assertSameTypes(fromFile.getTypeDefs(), fromBytes.getTypeDefs());
+	}
+
+	@Test
+	public void testByteBufferWithOffset() throws Exception
+	{
+		File file = PathSearcher.getTestPath("test7/NestClassLibrary.dll");
+		byte[] data = Files.readAllBytes(file.toPath());
+
+		ByteBuffer buffer = ByteBuffer.allocate(data.length + 16);
+		buffer.position(16);
+		buffer.put(data);
+		buffer.position(16);
+
+		ModuleParser fromBuffer = new ModuleParser(buffer);
+		assertEquals(16, buffer.position());
+
+		assertSameTypes(new ModuleParser(file).getTypeDefs(), fromBuffer.getTypeDefs());
+	}
+
+	@Test
+	public void testAssemblyInfo() throws Exception
+	{
+		File file = PathSearcher.getTestPath("test7/NestClassLibrary.dll");
+
+		AssemblyInfo fromFile = ModuleParser.parseAssemblyInfo(file);
+		AssemblyInfo fromBytes = ModuleParser.parseAssemblyInfo(Files.readAllBytes(file.toPath()));
+
+		assertEquals(fromFile.getName(), fromBytes.getName());
+		assertEquals(fromFile.getMajorVersion(), fromBytes.getMajorVersion());
+		assertEquals(fromFile.getMinorVersion(), fromBytes.getMinorVersion());
+	}
+
+	@Test
+	public void testAssemblyIdentity() throws Exception
+	{
+		File file = PathSearcher.getTestPath("testIssue3/Newtonsoft.Json.dll");
+
+		AssemblyInfo expected = new ModuleParser(file).getAssemblyInfo();
+		AssemblyIdentity identity = ModuleParser.parseAssemblyIdentity(file);
+		AssemblyInfo actual = identity.getAssemblyInfo();
+
+		assertNotNull(actual);
+		assertEquals("Newtonsoft.Json", actual.getName());
+		assertEquals(expected.getName(), actual.getName());
+		assertEquals(expected.getCulture(), actual.getCulture());
+		assertEquals(expected.getMajorVersion(), actual.getMajorVersion());
+		assertEquals(expected.getRevisionNumber(), actual.getRevisionNumber());
+		assertEquals(expected.getFlags(), actual.getFlags());
+		assertArrayEquals(expected.getPublicKey(), actual.getPublicKey());
+
+		AssemblyRefInfo[] refs = identity.getAssemblyRefs();
+		assertEquals(4, refs.length);
+		assertEquals("mscorlib", refs[0].getName());
+		assertEquals(2, refs[0].getMajorVersion());
+		assertEquals(8, refs[0].getPublicKeyOrToken().length);
+	}
+
+	@Test
+	public void testSharedStringPool() throws Exception
+	{
+		File file = PathSearcher.getTestPath("test7/NestClassLibrary.dll");
+		ModuleParserOptions options = new ModuleParserOptions().setStringPool(new StringPool());
+
+		TypeDef[] first = new ModuleParser(file, options).getTypeDefs();
+		TypeDef[] second = new ModuleParser(Files.readAllBytes(file.toPath()), options).getTypeDefs();
+
+		assertSameTypes(first, second);
+		for(int i = 0; i < first.length; i++)
+		{
+			assertSame(first[i].getName(), second[i].getName());
+		}
+	}
+
+	@Test
+	public void testUserStrings() throws Exception
+	{
+		ModuleParser parser = new ModuleParser(PathSearcher.getTestPath("testIssue3/Newtonsoft.Json.dll"));
+
+		PrimitiveIterator.OfInt tokens = parser.getUserStringTokens();
+		assertEquals(0x70000001, tokens.nextInt());
+		assertEquals("key", parser.getUserString(0x70000001));
+		assertSame(parser.getUserString(0x70000001), parser.getUserString(0x70000001));
+
+		int count = 1;
+		int previous = 0x70000001;
+		while(tokens.hasNext())
+		{
+			int token = tokens.nextInt();
+			assertTrue(token > previous);
+			assertNotNull(parser.getUserString(token));
+			previous = token;
+			count++;
+		}
+		assertEquals(717, count);
+		assertEquals("Delimiter must be a single or double quote.", parser.getUserString(0x7000001F));
+	}
+
+	@Test
+	public void testSharedSignatures() throws Exception
+	{
+		ModuleParser parser = new ModuleParser(PathSearcher.getTestPath("testIssue3/Newtonsoft.Json.dll"));
+
+		Map<MethodSignature, MethodDef> firstOwners = new IdentityHashMap<>();
+		int shared = 0;
+		int methods = 0;
+		for(TypeDef typeDef : parser.getTypeDefs())
+		{
+			for(MethodDef method : typeDef.getMethods())
+			{
+				methods++;
+				MethodDef other = firstOwners.putIfAbsent(method.getSignature(), method);
+				if(other == null || method.getSignature().getParameters().isEmpty())
+				{
+					continue;
+				}
+
+				shared++;
+				ParameterInfo info = method.getParameterInfo(0);
+				ParameterInfo otherInfo = other.getParameterInfo(0);
+				if(info != null && otherInfo != null)
+				{
+					assertNotSame(otherInfo, info);
+				}
+				try
+				{
+					method.getSignature().getParameters().remove(0);
+					fail("parameters of a shared signature must be unmodifiable");
+				}
+				catch(UnsupportedOperationException ignored)
+				{
+				}
+			}
+		}
+		assertTrue(shared > 0);
+		assertTrue(firstOwners.size() < methods);
+	}
+
+	private static void assertSameTypes(TypeDef[] expected, TypeDef[] actual)
+	{
+		assertEquals(expected.length, actual.length);
+		for(int i = 0; i < expected.length; i++)
+		{
+			assertEquals(expected[i].getFullName(), actual[i].getFullName());
+			assertEquals(expected[i].getMethods().size(), actual[i].getMethods().size());
+			assertEquals(expected[i].getFields().size(), actual[i].getFields().size());
+		}
+	}
+}
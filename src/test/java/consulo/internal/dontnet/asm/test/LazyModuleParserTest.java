@@ -0,0 +1,45 @@
+package consulo.internal.dontnet.asm.test;
+
+import consulo.PathSearcher;
+import consulo.internal.dotnet.asm.mbel.*;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+
+/**
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public class LazyModuleParserTest extends Assert
+{
+	@Test
+	public void testLazyMatchesEager() throws Exception
+	{
+		File file = PathSearcher.getTestPath("test9/FSharpCore.dll");
+		TypeDef[] eager = new ModuleParser(file).getTypeDefs();
+		TypeDef[] lazy = new ModuleParser(file, new ModuleParserOptions().setLazy(true)).getTypeDefs();
+
+		assertEquals(eager.length, lazy.length);
+		// backwards, so types are also built through the members and attributes of other types
+		for(int i = eager.length - 1; i >= 0; i--)
+		{
+			assertEquals(ModuleDump.describe(eager[i]), ModuleDump.describe(lazy[i]));
+		}
+	}
+
+	@Test
+	public void testMemberByToken() throws Exception
+	{
+		ModuleParser parser = new ModuleParser(PathSearcher.getTestPath("testIssue3/Newtonsoft.Json.dll"), new ModuleParserOptions().setLazy(true));
+
+		MethodDef method = (MethodDef) parser.getMethodDefOrRef(0x06000100);
+		TypeDef parent = (TypeDef) method.getParent();
+		assertNotNull(parent);
+		assertTrue(parent.getMethods().contains(method));
+		assertSame(method, parser.getMethodDefOrRef(0x06000100));
+
+		assertNotNull(parser.getAssemblyInfo().getCustomAttributes());
+		assertFalse(parser.getAssemblyInfo().getCustomAttributes().isEmpty());
+	}
+}
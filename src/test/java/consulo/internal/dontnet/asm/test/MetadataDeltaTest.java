@@ -0,0 +1,261 @@
+package consulo.internal.dontnet.asm.test;
+
+import consulo.PathSearcher;
+import consulo.internal.dotnet.asm.io.MSILInputStream;
+import consulo.internal.dotnet.asm.mbel.MethodDef;
+import consulo.internal.dotnet.asm.mbel.ModuleParser;
+import consulo.internal.dotnet.asm.mbel.TypeDef;
+import consulo.internal.dotnet.asm.metadata.MetadataDelta;
+import consulo.internal.dotnet.asm.metadata.MetadataTables;
+import consulo.internal.dotnet.asm.metadata.TableColumns;
+import consulo.internal.dotnet.asm.metadata.TableConstants;
+import consulo.internal.dotnet.asm.parse.PEModule;
+import consulo.internal.dotnet.asm.signature.ParameterInfo;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Applies a hand-made minimal EnC delta (as emitted for hot reload) to test7:
+ * the first method gets new flags, and a method "AddedMethod(int value)" is added to the first type after &lt;Module&gt;.
+ * A second delta adds a parameter to an existing method of testIssue3 (test7 has no method with named parameters).
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public class MetadataDeltaTest extends Assert
+{
+	private static final int UPDATED_FLAGS = 0x0096;
+
+	@Test
+	public void testApplyDelta() throws Exception
+	{
+		File file = PathSearcher.getTestPath("test7/NestClassLibrary.dll");
+		MetadataTables base = parseBase(file);
+		byte[] delta = buildDelta(base);
+
+		ModuleParser parser = new ModuleParser(file);
+		MethodDef first = (MethodDef) parser.getMethodDefOrRef(0x06000001);
+		String firstName = first.getName();
+		TypeDef owner = parser.getTypeDefs()[1];
+		int methodCount = owner.getMethods().size();
+
+		parser.applyDelta(delta);
+
+		assertEquals(UPDATED_FLAGS, first.getFlags());
+		assertEquals(firstName, first.getName());
+		assertEquals(methodCount + 1, owner.getMethods().size());
+
+		int addedToken = 0x06000000 | base.getRowCount(TableConstants.Method) + 1;
+		MethodDef added = (MethodDef) parser.getMethodDefOrRef(addedToken);
+		assertSame(added, owner.getMethods().get(methodCount));
+		assertEquals("AddedMethod", added.getName());
+		assertEquals(1, added.getSignature().getParameters().size());
+		assertEquals("value", added.getParameterInfo(0).getName());
+	}
+
+	@Test
+	public void testAddParameterToExistingMethod() throws Exception
+	{
+		File file = PathSearcher.getTestPath("testIssue3/Newtonsoft.Json.dll");
+		MetadataTables base = parseBase(file);
+		ModuleParser parser = new ModuleParser(file);
+
+		// a method whose parameter names are already set
+		MethodDef method = null;
+		int methodRid = 0;
+		for(int rid = 1; rid <= base.getRowCount(TableConstants.Method) && method == null; rid++)
+		{
+			MethodDef candidate = (MethodDef) parser.getMethodDefOrRef(0x06000000 | rid);
+			if(!candidate.getSignature().getParameters().isEmpty() && candidate.getParameterInfo(0) != null)
+			{
+				method = candidate;
+				methodRid = rid;
+			}
+		}
+		assertNotNull(method);
+
+		int parameterCount = method.getSignature().getParameters().size();
+		ParameterInfo[] parameterInfos = new ParameterInfo[parameterCount];
+		for(int i = 0; i < parameterCount; i++)
+		{
+			parameterInfos[i] = method.getParameterInfo(i);
+		}
+
+		parser.applyDelta(buildAddParameterDelta(base, methodRid, parameterCount + 1));
+
+		assertEquals(parameterCount + 1, method.getSignature().getParameters().size());
+		for(int i = 0; i < parameterCount; i++)
+		{
+			assertSame(parameterInfos[i], method.getParameterInfo(i));
+		}
+		assertEquals("extra", method.getParameterInfo(parameterCount).getName());
+	}
+
+	@Test
+	public void testDeltaTables() throws Exception
+	{
+		MetadataTables base = parseBase(PathSearcher.getTestPath("test7/NestClassLibrary.dll"));
+		TableConstants baseConstants = base.getTableConstants();
+		MetadataDelta delta = MetadataDelta.parse(buildDelta(base), baseConstants);
+		MetadataTables tables = delta.getTables();
+
+		int baseMethods = base.getRowCount(TableConstants.Method);
+		assertEquals(2, tables.getRowCount(TableConstants.Method));
+		assertEquals(0x06000001, delta.getToken(TableConstants.Method, 0));
+		assertEquals(0x06000000 | baseMethods + 1, delta.getToken(TableConstants.Method, 1));
+		assertEquals(1, delta.getRow(0x06000000 | baseMethods + 1));
+		assertEquals(-1, delta.getRow(0x06000002));
+
+		assertEquals(5, delta.getLogCount());
+		assertEquals(MetadataDelta.FUNC_ADD_METHOD, delta.getLogOperation(1));
+		assertEquals(0x02000002L, delta.getLogToken(1));
+
+		// aggregated heap offsets: the base heaps first, then the delta heaps
+		assertEquals("AddedMethod", tables.getString(TableConstants.Method, 1, TableColumns.Method.NAME));
+		assertEquals(base.getString(TableConstants.Method, 0, TableColumns.Method.NAME), tables.getString(TableConstants.Method, 0, TableColumns.Method.NAME));
+		assertEquals(baseConstants.getStringsHeapEnd() + 20, delta.getTableConstants().getStringsHeapEnd());
+	}
+
+	private static MetadataTables parseBase(File file) throws Exception
+	{
+		try (MSILInputStream in = new MSILInputStream(file))
+		{
+			PEModule module = new PEModule(in);
+			return module.metadata.parseTableConstants(in, TableConstants.ALL_TABLES).getTables();
+		}
+	}
+
+	private static byte[] buildDelta(MetadataTables base)
+	{
+		int methodRid = base.getRowCount(TableConstants.Method) + 1;
+		int paramRid = base.getRowCount(TableConstants.Param) + 1;
+		int firstMethodName = base.getInt(TableConstants.Method, 0, TableColumns.Method.NAME);
+		int firstMethodSignature = base.getInt(TableConstants.Method, 0, TableColumns.Method.SIGNATURE);
+		int firstMethodParams = base.getInt(TableConstants.Method, 0, TableColumns.Method.PARAM_LIST);
+
+		// heaps start with an unused 0 byte, offsets continue the base heaps
+		long stringsStart = base.getTableConstants().getStringsHeapEnd();
+		byte[] strings = pad("\0AddedMethod\0value\0".getBytes(StandardCharsets.US_ASCII));
+		long blobStart = base.getTableConstants().getBlobHeapEnd();
+		// HASTHIS, 1 parameter, void, int32
+		byte[] blobs = pad(new byte[]{0, 4, 0x20, 1, 1, 8});
+
+		ByteBuffer tables = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+		tables.putInt(0);
+		tables.put((byte) 2).put((byte) 0).put((byte) 0x27).put((byte) 1);
+		tables.putLong(1L << TableConstants.Method | 1L << TableConstants.Param | 1L << TableConstants.ENCLog | 1L << TableConstants.ENCMap);
+		tables.putLong(0);
+		tables.putInt(2).putInt(1).putInt(5).putInt(3);
+		// Method: RVA, ImplFlags, Flags, Name, Signature, ParamList
+		tables.putInt(0).putShort((short) 0).putShort((short) UPDATED_FLAGS).putInt(firstMethodName).putInt(firstMethodSignature).putInt(firstMethodParams);
+		tables.putInt(0).putShort((short) 0).putShort((short) 0x0086).putInt((int) stringsStart + 1).putInt((int) blobStart + 1).putInt(paramRid);
+		// Param: Flags, Sequence, Name
+		tables.putShort((short) 0).putShort((short) 1).putInt((int) stringsStart + 13);
+		// ENCLog: Token, FuncCode
+		tables.putInt(0x06000001).putInt(MetadataDelta.FUNC_DEFAULT);
+		tables.putInt(0x02000002).putInt(MetadataDelta.FUNC_ADD_METHOD);
+		tables.putInt(0x06000000 | methodRid).putInt(MetadataDelta.FUNC_DEFAULT);
+		tables.putInt(0x06000000 | methodRid).putInt(MetadataDelta.FUNC_ADD_PARAMETER);
+		tables.putInt(0x08000000 | paramRid).putInt(MetadataDelta.FUNC_DEFAULT);
+		// ENCMap: Token
+		tables.putInt(0x06000001).putInt(0x06000000 | methodRid).putInt(0x08000000 | paramRid);
+		byte[] tableStream = new byte[tables.position()];
+		tables.flip().get(tableStream);
+
+		return buildMetadataRoot(new String[]{"#-", "#Strings", "#Blob", "#JTD"}, new byte[][]{pad(tableStream), strings, blobs, new byte[0]});
+	}
+
+	/**
+	 * Gives the existing method a new signature with the given number of int32 parameters, and adds a parameter "extra" as the last one
+	 */
+	private static byte[] buildAddParameterDelta(MetadataTables base, int methodRid, int parameterCount)
+	{
+		int paramRid = base.getRowCount(TableConstants.Param) + 1;
+		int row = methodRid - 1;
+
+		long stringsStart = base.getTableConstants().getStringsHeapEnd();
+		byte[] strings = pad("\0extra\0".getBytes(StandardCharsets.US_ASCII));
+		long blobStart = base.getTableConstants().getBlobHeapEnd();
+		// HASTHIS, parameterCount parameters, void, int32...
+		byte[] signature = new byte[5 + parameterCount];
+		signature[1] = (byte) (3 + parameterCount);
+		signature[2] = 0x20;
+		signature[3] = (byte) parameterCount;
+		signature[4] = 1;
+		for(int i = 0; i < parameterCount; i++)
+		{
+			signature[5 + i] = 8;
+		}
+		byte[] blobs = pad(signature);
+
+		ByteBuffer tables = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+		tables.putInt(0);
+		tables.put((byte) 2).put((byte) 0).put((byte) 0x27).put((byte) 1);
+		tables.putLong(1L << TableConstants.Method | 1L << TableConstants.Param | 1L << TableConstants.ENCLog | 1L << TableConstants.ENCMap);
+		tables.putLong(0);
+		tables.putInt(1).putInt(1).putInt(3).putInt(2);
+		// Method: RVA, ImplFlags, Flags, Name, Signature, ParamList
+		tables.putInt(0);
+		tables.putShort((short) base.getInt(TableConstants.Method, row, TableColumns.Method.IMPL_FLAGS));
+		tables.putShort((short) base.getInt(TableConstants.Method, row, TableColumns.Method.FLAGS));
+		tables.putInt(base.getInt(TableConstants.Method, row, TableColumns.Method.NAME));
+		tables.putInt((int) blobStart + 1);
+		tables.putInt(base.getInt(TableConstants.Method, row, TableColumns.Method.PARAM_LIST));
+		// Param: Flags, Sequence, Name
+		tables.putShort((short) 0).putShort((short) parameterCount).putInt((int) stringsStart + 1);
+		// ENCLog: Token, FuncCode
+		tables.putInt(0x06000000 | methodRid).putInt(MetadataDelta.FUNC_DEFAULT);
+		tables.putInt(0x06000000 | methodRid).putInt(MetadataDelta.FUNC_ADD_PARAMETER);
+		tables.putInt(0x08000000 | paramRid).putInt(MetadataDelta.FUNC_DEFAULT);
+		// ENCMap: Token
+		tables.putInt(0x06000000 | methodRid).putInt(0x08000000 | paramRid);
+		byte[] tableStream = new byte[tables.position()];
+		tables.flip().get(tableStream);
+
+		return buildMetadataRoot(new String[]{"#-", "#Strings", "#Blob", "#JTD"}, new byte[][]{pad(tableStream), strings, blobs, new byte[0]});
+	}
+
+	private static byte[] buildMetadataRoot(String[] names, byte[][] streams)
+	{
+		byte[] version = pad("v4.0.30319".getBytes(StandardCharsets.US_ASCII));
+		int headerSize = 16 + version.length + 4;
+		for(String name : names)
+		{
+			headerSize += 8 + pad(name.getBytes(StandardCharsets.US_ASCII)).length;
+		}
+
+		ByteBuffer root = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+		root.putInt(0x424A5342).putShort((short) 1).putShort((short) 1).putInt(0).putInt(version.length).put(version);
+		root.put((byte) 0).put((byte) 0).putShort((short) names.length);
+		int offset = headerSize;
+		for(int i = 0; i < names.length; i++)
+		{
+			root.putInt(offset).putInt(streams[i].length).put(pad(names[i].getBytes(StandardCharsets.US_ASCII)));
+			offset += streams[i].length;
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.writeBytes(root.array());
+		for(byte[] stream : streams)
+		{
+			out.writeBytes(stream);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Zero-terminates (for names) and pads to 4 bytes
+	 */
+	private static byte[] pad(byte[] bytes)
+	{
+		byte[] result = new byte[(bytes.length + 4) & ~3];
+		System.arraycopy(bytes, 0, result, 0, bytes.length);
+		return result;
+	}
+}
@@ -0,0 +1,229 @@
+package consulo.internal.dontnet.asm.test;
+
+import consulo.PathSearcher;
+import consulo.internal.dotnet.asm.io.MSILInputStream;
+import consulo.internal.dotnet.asm.metadata.MetadataIndex;
+import consulo.internal.dotnet.asm.metadata.MetadataTableReader;
+import consulo.internal.dotnet.asm.metadata.MetadataTables;
+import consulo.internal.dotnet.asm.metadata.TableColumns;
+import consulo.internal.dotnet.asm.metadata.TableConstants;
+import consulo.internal.dotnet.asm.metadata.TableLayout;
+import consulo.internal.dotnet.asm.metadata.Utf8Name;
+import consulo.internal.dotnet.asm.metadata.genericTable.GenericTableDefinition;
+import consulo.internal.dotnet.asm.metadata.genericTable.GenericTableFieldInfo;
+import consulo.internal.dotnet.asm.parse.PEModule;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public class MetadataTableReaderTest extends Assert
+{
+	@Test
+	public void testReaderMatchesParsedTables() throws Exception
+	{
+		try (MSILInputStream in = new MSILInputStream(PathSearcher.getTestPath("testIssue3/Newtonsoft.Json.dll")))
+		{
+			PEModule module = new PEModule(in);
+			TableConstants tc = module.metadata.parseTableConstants(in, TableConstants.ALL_TABLES);
+			MetadataTables parsed = tc.getTables();
+			MetadataTableReader reader = tc.createTableReader(in);
+
+			for(int table = 0; table < 64; table++)
+			{
+				TableLayout layout = tc.getTableLayout(table);
+				assertEquals(parsed.getRowCount(table), reader.getRowCount(table));
+
+				for(int row = 0; row < layout.getRowCount(); row++)
+				{
+					for(int column = 0; column < layout.getColumnCount(); column++)
+					{
+						assertEquals(parsed.getInt(table, row, column), reader.getInt(table, row, column));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testParallelParseMatchesSequential() throws Exception
+	{
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try (MSILInputStream in = new MSILInputStream(PathSearcher.getTestPath("test9/FSharpCore.dll")))
+		{
+			PEModule module = new PEModule(in);
+			MetadataTables sequential = module.metadata.parseTableConstants(in, TableConstants.ALL_TABLES).getTables();
+			MetadataTables parallel = module.metadata.parseTableConstants(in, TableConstants.ALL_TABLES, pool).getTables();
+
+			for(int table = 0; table < 64; table++)
+			{
+				assertEquals(sequential.getRowCount(table), parallel.getRowCount(table));
+				TableLayout layout = sequential.getTableConstants().getTableLayout(table);
+				for(int row = 0; row < sequential.getRowCount(table); row++)
+				{
+					for(int column = 0; column < layout.getColumnCount(); column++)
+					{
+						assertEquals(sequential.getInt(table, row, column), parallel.getInt(table, row, column));
+					}
+				}
+			}
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testSortedTableLookups() throws Exception
+	{
+		try (MSILInputStream in = new MSILInputStream(PathSearcher.getTestPath("testIssue3/Newtonsoft.Json.dll")))
+		{
+			PEModule module = new PEModule(in);
+			TableConstants tc = module.metadata.parseTableConstants(in, TableConstants.ALL_TABLES);
+			MetadataTableReader reader = tc.createTableReader(in);
+			assertTrue(tc.isSorted(TableConstants.CustomAttribute));
+
+			int count = reader.getRowCount(TableConstants.CustomAttribute);
+			assertTrue(count > 0);
+			for(int row = 0; row < count; row++)
+			{
+				long parent = TableConstants.decodeCodedIndex(reader.getLong(TableConstants.CustomAttribute, row, TableColumns.CustomAttribute.PARENT), TableConstants.HasCustomAttribute);
+				int[] rows = reader.customAttributesOf(parent);
+
+				int expected = 0;
+				for(int other = 0; other < count; other++)
+				{
+					if(reader.getInt(TableConstants.CustomAttribute, other, TableColumns.CustomAttribute.PARENT) == reader.getInt(TableConstants.CustomAttribute, row, TableColumns.CustomAttribute.PARENT))
+					{
+						assertEquals(other, rows[expected++]);
+					}
+				}
+				assertEquals(expected, rows.length);
+			}
+
+			for(int row = 0; row < reader.getRowCount(TableConstants.Constant); row++)
+			{
+				long parent = TableConstants.decodeCodedIndex(reader.getLong(TableConstants.Constant, row, TableColumns.Constant.PARENT), TableConstants.HasConst);
+				assertEquals(row, reader.constantOf(parent));
+			}
+
+			assertEquals(0, reader.customAttributesOf((long) TableConstants.TypeDef << 24 | 0xFFFFFF).length);
+			assertEquals(-1, reader.constantOf((long) TableConstants.TypeDef << 24 | 1));
+		}
+	}
+
+	@Test
+	public void testMetadataIndex() throws Exception
+	{
+		try (MSILInputStream in = new MSILInputStream(PathSearcher.getTestPath("testIssue3/Newtonsoft.Json.dll")))
+		{
+			PEModule module = new PEModule(in);
+			MetadataTables tables = module.metadata.parseTableConstants(in, MetadataIndex.TABLE_MASK).getTables();
+			MetadataIndex index = MetadataIndex.build(tables);
+
+			for(int row = 0; row < tables.getRowCount(TableConstants.TypeDef); row++)
+			{
+				String namespace = tables.getString(TableConstants.TypeDef, row, TableColumns.TypeDef.NAMESPACE);
+				String name = tables.getString(TableConstants.TypeDef, row, TableColumns.TypeDef.NAME);
+				int[] rows = index.findTypeDefRows(namespace, name);
+				assertTrue(namespace + "." + name, Arrays.binarySearch(rows, row) >= 0);
+			}
+			for(int row = 0; row < tables.getRowCount(TableConstants.MemberRef); row++)
+			{
+				String name = tables.getString(TableConstants.MemberRef, row, TableColumns.MemberRef.NAME);
+				assertTrue(name, Arrays.binarySearch(index.findMemberRefRows(name), row) >= 0);
+			}
+
+			int jsonConvert = index.findTypeDefRow("Newtonsoft.Json", "JsonConvert");
+			assertEquals("JsonConvert", tables.getString(TableConstants.TypeDef, jsonConvert, TableColumns.TypeDef.NAME));
+			assertTrue(index.definesType("Newtonsoft.Json", "JsonConvert"));
+			assertFalse(index.definesType("Newtonsoft.Json", "JsonConvert2"));
+			assertFalse(index.definesType("System", "Object"));
+			assertTrue(index.referencesType("System", "Object"));
+			assertFalse(index.referencesType("Newtonsoft.Json", "JsonConvert"));
+			assertTrue(index.referencesMember(".ctor"));
+			assertFalse(index.referencesMember("NoSuchMember"));
+			assertEquals(-1, index.findExportedTypeRow("System", "Object"));
+		}
+	}
+
+	@Test
+	public void testTokens()
+	{
+		long token = TableConstants.decodeCodedIndex(TableConstants.buildCodedIndex(TableConstants.HasCustomAttribute, TableConstants.Param, 300), TableConstants.HasCustomAttribute);
+		assertEquals(0x0800012CL, token);
+		assertEquals(TableConstants.Param, TableConstants.tableOf(token));
+		assertEquals(300, TableConstants.ridOf(token));
+		assertEquals(token, TableConstants.token(TableConstants.Param, 300));
+		assertEquals(-1L, TableConstants.decodeCodedIndex(1, -1));
+	}
+
+	@Test
+	public void testTableMask() throws Exception
+	{
+		try (MSILInputStream in = new MSILInputStream(PathSearcher.getTestPath("testIssue3/Newtonsoft.Json.dll")))
+		{
+			PEModule module = new PEModule(in);
+			TableConstants tc = module.metadata.parseTableConstants(in, TableConstants.tableMask(TableConstants.Assembly));
+			MetadataTables tables = tc.getTables();
+
+			assertEquals(1, tables.getRowCount(TableConstants.Assembly));
+			assertTrue(tc.getTableLayout(TableConstants.TypeDef).getRowCount() > 0);
+			assertTrue(tables.isEmpty(TableConstants.TypeDef));
+			assertTrue(tables.isEmpty(TableConstants.AssemblyRef));
+		}
+	}
+
+	@Test
+	public void testRandomAccess() throws Exception
+	{
+		try (MSILInputStream in = new MSILInputStream(PathSearcher.getTestPath("test7/NestClassLibrary.dll")))
+		{
+			PEModule module = new PEModule(in);
+			TableConstants tc = module.metadata.parseTableConstants(in, TableConstants.ALL_TABLES);
+			MetadataTableReader reader = tc.createTableReader(in);
+
+			int nameColumn = MetadataTables.getColumnIndex(TableConstants.TypeDef, "Name");
+			int lastRow = reader.getRowCount(TableConstants.TypeDef) - 1;
+			assertEquals("NestClassLibrary.dll", reader.getString(TableConstants.Module, 0, MetadataTables.getColumnIndex(TableConstants.Module, "Name")));
+			assertEquals("<Module>", reader.getString(TableConstants.TypeDef, 0, nameColumn));
+			assertTrue(reader.stringEquals(TableConstants.TypeDef, 0, nameColumn, "<Module>"));
+			assertFalse(reader.stringEquals(TableConstants.TypeDef, 0, nameColumn, "<Module"));
+			assertEquals(Utf8Name.hash("<Module>"), reader.getStringHash(TableConstants.TypeDef, 0, nameColumn));
+			assertFalse(reader.getString(TableConstants.TypeDef, lastRow, nameColumn).isEmpty());
+			assertSame(reader.getString(TableConstants.TypeDef, lastRow, nameColumn), reader.getString(TableConstants.TypeDef, lastRow, nameColumn));
+		}
+	}
+
+	@Test
+	public void testTableColumnsMatchGrammar() throws Exception
+	{
+		int checkedTables = 0;
+		for(GenericTableDefinition definition : TableConstants.GENERIC_TABLE_DEFINITIONS)
+		{
+			if(definition == null)
+			{
+				continue;
+			}
+
+			Class<?> columns = Class.forName(TableColumns.class.getName() + "$" + definition.getName());
+			GenericTableFieldInfo[] fields = definition.getFields();
+			assertEquals(definition.getName(), fields.length, columns.getFields().length);
+
+			for(Field field : columns.getFields())
+			{
+				int index = field.getInt(null);
+				assertEquals(definition.getName() + "." + field.getName(), fields[index].getName().toUpperCase(), field.getName().replace("_", ""));
+			}
+			checkedTables++;
+		}
+		assertEquals(checkedTables, TableColumns.class.getClasses().length);
+	}
+}
@@ -0,0 +1,72 @@
+package consulo.internal.dontnet.asm.test;
+
+import consulo.internal.dotnet.asm.mbel.*;
+import consulo.internal.dotnet.asm.signature.CustomAttributeOwner;
+import consulo.internal.dotnet.asm.signature.ParameterInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text dump of parsed types, for comparing the eager parse of a module with the other parser modes
+ *
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public class ModuleDump
+{
+	public static List<String> describe(ModuleParser parser)
+	{
+		List<String> result = new ArrayList<>();
+		for(TypeDef typeDef : parser.getTypeDefs())
+		{
+			result.addAll(describe(typeDef));
+		}
+		return result;
+	}
+
+	public static List<String> describe(TypeDef typeDef)
+	{
+		List<String> result = new ArrayList<>();
+		result.add(typeDef.getFullName() + " " + typeDef.getInterfaceImplementations().size() + " " + attributes(typeDef) + " " + typeDef.getGenericParams().size());
+		for(Field field : typeDef.getFields())
+		{
+			result.add(field.getName() + " " + field.getFlags() + " " + attributes(field));
+		}
+		for(MethodDef method : typeDef.getMethods())
+		{
+			StringBuilder builder = new StringBuilder(method.getName() + " " + method.getFlags() + " " + attributes(method));
+			for(int i = 0; i < method.getSignature().getParameters().size(); i++)
+			{
+				ParameterInfo info = method.getParameterInfo(i);
+				builder.append(" ").append(info == null ? "-" : info.getName());
+			}
+			if(method.getMethodSemantics() != null)
+			{
+				builder.append(" ").append(method.getMethodSemantics().getSemantics());
+			}
+			result.add(builder.toString());
+		}
+		for(Property property : typeDef.getProperties())
+		{
+			result.add(property.getName() + " " + (property.getGetter() == null ? null : property.getGetter().getName()) + " " + attributes(property));
+		}
+		for(Event event : typeDef.getEvents())
+		{
+			result.add(event.getName() + " " + (event.getAddOnMethod() == null ? null : event.getAddOnMethod().getName()) + " " + attributes(event));
+		}
+		result.add("maps " + typeDef.getMethodMaps().length);
+		return result;
+	}
+
+	private static String attributes(CustomAttributeOwner owner)
+	{
+		StringBuilder builder = new StringBuilder();
+		for(CustomAttribute attribute : owner.getCustomAttributes())
+		{
+			MethodDefOrRef constructor = attribute.getConstructor();
+			builder.append(constructor instanceof MemberRef ? ((MemberRef) constructor).getParent().getFullName() : ((MethodDef) constructor).getParent().getFullName()).append(";");
+		}
+		return builder.toString();
+	}
+}
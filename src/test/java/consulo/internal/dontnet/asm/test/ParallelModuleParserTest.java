@@ -0,0 +1,78 @@
+package consulo.internal.dontnet.asm.test;
+
+import consulo.PathSearcher;
+import consulo.internal.dotnet.asm.mbel.*;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public class ParallelModuleParserTest extends Assert
+{
+	@Test
+	public void testSameModule() throws Exception
+	{
+		File file = PathSearcher.getTestPath("test9/FSharpCore.dll");
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try
+		{
+			ModuleParser plain = new ModuleParser(file);
+			ModuleParser parallel = new ModuleParser(file, new ModuleParserOptions().setPool(pool));
+
+			assertEquals(ModuleDump.describe(plain), ModuleDump.describe(parallel));
+
+			List<Object> plainSignatures = signatures(plain);
+			List<Object> parallelSignatures = signatures(parallel);
+			assertTrue(plainSignatures.size() > 4096);
+
+			// the same members share a signature instance
+			assertEquals(sharing(plainSignatures), sharing(parallelSignatures));
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	private static List<Object> signatures(ModuleParser parser)
+	{
+		List<Object> result = new ArrayList<>();
+		for(TypeDef typeDef : parser.getTypeDefs())
+		{
+			for(Field field : typeDef.getFields())
+			{
+				result.add(field.getSignature());
+			}
+			for(MethodDef method : typeDef.getMethods())
+			{
+				result.add(method.getSignature());
+			}
+			for(Property property : typeDef.getProperties())
+			{
+				result.add(property.getSignature());
+			}
+		}
+		return result;
+	}
+
+	private static List<Integer> sharing(List<Object> signatures)
+	{
+		Map<Object, Integer> first = new IdentityHashMap<>();
+		List<Integer> result = new ArrayList<>();
+		for(int i = 0; i < signatures.size(); i++)
+		{
+			Integer index = first.putIfAbsent(signatures.get(i), i);
+			result.add(index == null ? i : index);
+		}
+		return result;
+	}
+}
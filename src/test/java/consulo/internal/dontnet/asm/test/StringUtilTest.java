@@ -0,0 +1,64 @@
+package consulo.internal.dontnet.asm.test;
+
+import consulo.internal.dotnet.asm.metadata.Utf8Name;
+import consulo.internal.dotnet.asm.util.StringUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public class StringUtilTest extends Assert
+{
+	@Test
+	public void testIndexOfZero()
+	{
+		byte[] bytes = new byte[40];
+		Arrays.fill(bytes, (byte) 'a');
+		assertEquals(40, StringUtil.indexOfZero(bytes, 0, bytes.length));
+
+		for(int zero = 0; zero < bytes.length; zero++)
+		{
+			bytes[zero] = 0;
+			for(int start = 0; start <= zero; start++)
+			{
+				assertEquals(zero, StringUtil.indexOfZero(bytes, start, bytes.length));
+			}
+			assertEquals(zero, StringUtil.indexOfZero(bytes, zero, zero));
+			bytes[zero] = (byte) 0x80;
+		}
+	}
+
+	@Test
+	public void testDecodeUtf8()
+	{
+		byte[] ascii = "System.Collections.Generic".getBytes(StandardCharsets.US_ASCII);
+		assertEquals("System.Collections.Generic", StringUtil.decodeUtf8(ascii, 0, ascii.length));
+		assertEquals("Collections", StringUtil.decodeUtf8(ascii, 7, 18));
+		assertSame(StringUtil.EMPTY, StringUtil.decodeUtf8(ascii, 3, 3));
+
+		byte[] utf8 = "\u041F\u0440\u0438\u0432\u0435\u0442.\u00DCn\u00EFcode".getBytes(StandardCharsets.UTF_8);
+		assertEquals("\u041F\u0440\u0438\u0432\u0435\u0442.\u00DCn\u00EFcode", StringUtil.decodeUtf8(utf8, 0, utf8.length));
+	}
+
+	@Test
+	public void testUtf8NameMatchesEncodedBytes()
+	{
+		String[] values = {"", "Object", "get_Count", "\u041F\u0440\u0438\u0432\u0435\u0442", "\u00DCn\u00EFcode", "\uD83D\uDE00smile", "\u20AC"};
+		for(String value : values)
+		{
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			assertEquals(value, Utf8Name.hash(bytes, 0, bytes.length), Utf8Name.hash(value));
+			assertTrue(value, Utf8Name.equals(bytes, 0, bytes.length, value));
+			assertFalse(value, Utf8Name.equals(bytes, 0, bytes.length, value + "x"));
+			if(bytes.length > 0)
+			{
+				assertFalse(value, Utf8Name.equals(bytes, 0, bytes.length - 1, value));
+			}
+		}
+	}
+}
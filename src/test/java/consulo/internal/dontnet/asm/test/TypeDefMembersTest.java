@@ -0,0 +1,140 @@
+package consulo.internal.dontnet.asm.test;
+
+import consulo.PathSearcher;
+import consulo.internal.dotnet.asm.mbel.*;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public class TypeDefMembersTest extends Assert
+{
+	@Test
+	public void testLookupsByName() throws Exception
+	{
+		ModuleParser parser = new ModuleParser(PathSearcher.getTestPath("testIssue3/Newtonsoft.Json.dll"));
+
+		int overloaded = 0;
+		for(TypeDef typeDef : parser.getTypeDefs())
+		{
+			for(MethodDef method : typeDef.getMethods())
+			{
+				List<MethodDef> expected = new ArrayList<>();
+				for(MethodDef other : typeDef.getMethods())
+				{
+					if(other.getName().equals(method.getName()))
+					{
+						expected.add(other);
+					}
+				}
+				assertEquals(expected, typeDef.getMethodsByName(method.getName()));
+				assertSame(expected.get(0), typeDef.getMethodByName(method.getName()));
+				if(expected.size() > 1)
+				{
+					overloaded++;
+				}
+			}
+			for(Field field : typeDef.getFields())
+			{
+				assertEquals(field.getName(), typeDef.getFieldByName(field.getName()).getName());
+			}
+			for(Property property : typeDef.getProperties())
+			{
+				assertEquals(property.getName(), typeDef.getPropertyByName(property.getName()).getName());
+			}
+			for(Event event : typeDef.getEvents())
+			{
+				assertSame(event, typeDef.getEventByName(event.getName()));
+			}
+			assertNull(typeDef.getMethodByName("NoSuchMethod"));
+			assertTrue(typeDef.getMethodsByName("NoSuchMethod").isEmpty());
+		}
+		assertTrue(overloaded > 0);
+	}
+
+	@Test
+	public void testIndexFollowsChanges() throws Exception
+	{
+		TypeDef typeDef = new ModuleParser(PathSearcher.getTestPath("testIssue3/Newtonsoft.Json.dll")).findTypeDef("Newtonsoft.Json", "JsonConvert");
+		assertNotNull(typeDef);
+
+		int overloads = typeDef.getMethodsByName("SerializeObject").size();
+		assertTrue(overloads > 1);
+		try
+		{
+			typeDef.getMethodsByName("SerializeObject").clear();
+			fail("overloads must be unmodifiable");
+		}
+		catch(UnsupportedOperationException ignored)
+		{
+		}
+
+		MethodDef added = new MethodDef("SerializeObject", 0, 0, typeDef.getMethodByName("SerializeObject").getSignature());
+		typeDef.addMethod(added);
+		assertEquals(overloads + 1, typeDef.getMethodsByName("SerializeObject").size());
+		assertSame(added, typeDef.getMethodsByName("SerializeObject").get(overloads));
+
+		// the index can only go stale through a list that is not returned
+		Field field = typeDef.getFields().get(0);
+		assertSame(field, typeDef.getFieldByName(field.getName()));
+		try
+		{
+			typeDef.getFields().remove(field);
+			fail("fields must be unmodifiable");
+		}
+		catch(UnsupportedOperationException ignored)
+		{
+		}
+		assertSame(field, typeDef.getFieldByName(field.getName()));
+
+		typeDef.removeField(field);
+		assertFalse(typeDef.getFields().contains(field));
+		assertNull(typeDef.getFieldByName(field.getName()));
+	}
+
+	@Test
+	public void testCopyOnWrite() throws Exception
+	{
+		ModuleParser parser = new ModuleParser(PathSearcher.getTestPath("testIssue3/Newtonsoft.Json.dll"));
+		TypeDef typeDef = parser.findTypeDef("Newtonsoft.Json", "JsonConvert");
+		assertNotNull(typeDef);
+
+		List<MethodDef> methods = new ArrayList<>(typeDef.getMethods());
+		try
+		{
+			typeDef.getMethods().add(methods.get(0));
+			fail("member lists of a parsed type must be unmodifiable");
+		}
+		catch(UnsupportedOperationException ignored)
+		{
+		}
+
+		MethodDef added = new MethodDef("Added", 0, 0, methods.get(0).getSignature());
+		typeDef.addMethod(added);
+		assertEquals(methods.size() + 1, typeDef.getMethods().size());
+		assertEquals(methods, typeDef.getMethods().subList(0, methods.size()));
+		assertSame(typeDef, added.getParent());
+		try
+		{
+			typeDef.getMethods().remove(added);
+			fail("member lists must stay unmodifiable after a change");
+		}
+		catch(UnsupportedOperationException ignored)
+		{
+		}
+
+		// the other types still see their own methods
+		for(TypeDef other : parser.getTypeDefs())
+		{
+			for(MethodDef method : other.getMethods())
+			{
+				assertSame(other, method.getParent());
+			}
+		}
+	}
+}
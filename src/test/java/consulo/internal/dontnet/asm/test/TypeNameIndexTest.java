@@ -0,0 +1,78 @@
+package consulo.internal.dontnet.asm.test;
+
+import consulo.PathSearcher;
+import consulo.internal.dotnet.asm.mbel.ModuleParser;
+import consulo.internal.dotnet.asm.mbel.TypeDef;
+import consulo.internal.dotnet.asm.mbel.TypeNameIndex;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author VISTALL
+ * @since 2026-10-17
+ */
+public class TypeNameIndexTest extends Assert
+{
+	@Test
+	public void testTopLevelTypes() throws Exception
+	{
+		ModuleParser parser = new ModuleParser(PathSearcher.getTestPath("test9/FSharpCore.dll"));
+		TypeNameIndex index = parser.getTypeGroup().getTypeNameIndex();
+		assertNotNull(index);
+
+		int nested = 0;
+		for(TypeDef typeDef : parser.getTypeDefs())
+		{
+			if(typeDef.getParent() == null)
+			{
+				assertSame(typeDef, index.findTypeDef(typeDef.getNamespace(), typeDef.getName()));
+			}
+			else
+			{
+				nested++;
+			}
+		}
+		assertTrue(nested > 0);
+
+		assertNull(index.findTypeDef("Microsoft.FSharp.Core", "NoSuchType"));
+		assertNull(index.findTypeDef("NoSuchNamespace", "Option`1"));
+	}
+
+	@Test
+	public void testPathsAndNamespaces() throws Exception
+	{
+		ModuleParser parser = new ModuleParser(PathSearcher.getTestPath("test9/FSharpCore.dll"));
+		TypeNameIndex index = parser.getTypeNameIndex();
+
+		int namespaceTypes = 0;
+		for(String namespace : index.getNamespaces())
+		{
+			namespaceTypes += index.getTypeDefs(namespace).size();
+		}
+
+		int topLevel = 0;
+		for(TypeDef typeDef : parser.getTypeDefs())
+		{
+			if(typeDef.getParent() == null)
+			{
+				topLevel++;
+			}
+			assertSame(typeDef, parser.findTypeDef(pathOf(typeDef)));
+		}
+		assertEquals(topLevel, namespaceTypes);
+
+		TypeDef option = parser.findTypeDef("Microsoft.FSharp.Core", "FSharpOption`1");
+		assertNotNull(option);
+		assertSame(option, parser.findTypeDef("Microsoft.FSharp.Core.FSharpOption`1"));
+		assertNull(parser.findTypeDef("Microsoft.FSharp.Core.FSharpOption`1+NoSuchType"));
+	}
+
+	private static String pathOf(TypeDef typeDef)
+	{
+		if(typeDef.getParent() != null)
+		{
+			return pathOf(typeDef.getParent()) + "+" + typeDef.getName();
+		}
+		return typeDef.getFullName();
+	}
+}